@@ -27,6 +27,8 @@ import org.junit.Test;
 import org.opencypher.gremlin.rules.GremlinServerExternalResource;
 import org.opencypher.gremlin.test.TestCommons;
 import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFactory;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 
 @SuppressWarnings("Duplicates")
 public class BytecodeCypherGremlinClientTest {
@@ -107,4 +109,45 @@ public class BytecodeCypherGremlinClientTest {
         assertThat(throwable)
             .hasMessageContaining("Invalid parameter name: goto");
     }
+
+    @Test
+    public void translationCache() {
+        TranslationCache cache = new TranslationCache(16);
+        BytecodeCypherGremlinClient cachingClient = new BytecodeCypherGremlinClient(
+            gremlinServer.gremlinClient().alias("g"),
+            TranslatorFactory.bytecode(TranslatorFlavor.gremlinServer()),
+            cache
+        );
+        String cypher = "MATCH (p:person) RETURN p.name + $suffix AS name";
+
+        assertThat(cachingClient.submit(cypher, singletonMap("suffix", "!")).all())
+            .extracting("name")
+            .containsExactlyInAnyOrder("marko!", "vadas!", "josh!", "peter!");
+        assertThat(cachingClient.submit(cypher, singletonMap("suffix", "?")).all())
+            .extracting("name")
+            .containsExactlyInAnyOrder("marko?", "vadas?", "josh?", "peter?");
+
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void translationCachePredicateParameters() {
+        TranslationCache cache = new TranslationCache(16);
+        BytecodeCypherGremlinClient cachingClient = new BytecodeCypherGremlinClient(
+            gremlinServer.gremlinClient().alias("g"),
+            TranslatorFactory.bytecode(TranslatorFlavor.gremlinServer()),
+            cache
+        );
+        String cypher = "MATCH (p:person) WHERE p.age > $age RETURN p.name AS name";
+
+        assertThat(cachingClient.submit(cypher, singletonMap("age", 30)).all())
+            .extracting("name")
+            .containsExactlyInAnyOrder("josh", "peter");
+        assertThat(cachingClient.submit(cypher, singletonMap("age", 32)).all())
+            .extracting("name")
+            .containsExactlyInAnyOrder("peter");
+
+        assertThat(cache.hitCount()).isEqualTo(0);
+    }
 }
@@ -15,6 +15,7 @@
  */
 package org.opencypher.gremlin.client;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -27,6 +28,8 @@ import org.junit.Test;
 import org.opencypher.gremlin.rules.GremlinServerExternalResource;
 import org.opencypher.gremlin.test.TestCommons;
 import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFactory;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 
 @SuppressWarnings("Duplicates")
 public class GroovyCypherGremlinClientTest {
@@ -120,4 +123,51 @@ public class GroovyCypherGremlinClientTest {
             .extracting("1")
             .containsExactly(1L);
     }
+
+    @Test
+    public void submitAll() {
+        List<CypherStatement> statements = asList(
+            CypherStatement.create("MATCH (p:person) WHERE p.age = $age RETURN p.name AS name", singletonMap("age", 29)),
+            CypherStatement.create("INVALID"),
+            CypherStatement.create("MATCH (p:person) WHERE p.age = $age RETURN p.name AS name", singletonMap("age", 27)),
+            CypherStatement.create("MATCH (s:software) RETURN s.name AS name ORDER BY name")
+        );
+        List<CypherResultSet> resultSets = client.submitAll(statements, 2).join();
+
+        assertThat(resultSets).hasSize(4);
+        assertThat(resultSets.get(0).all())
+            .extracting("name")
+            .containsExactly("marko");
+        assertThat(catchThrowable(resultSets.get(1)::all))
+            .hasMessageContaining("Invalid input");
+        assertThat(resultSets.get(2).all())
+            .extracting("name")
+            .containsExactly("vadas");
+        assertThat(resultSets.get(3).all())
+            .extracting("name")
+            .containsExactly("lop", "ripple");
+    }
+
+    @Test
+    public void translationCache() {
+        TranslationCache cache = new TranslationCache(16);
+        GroovyCypherGremlinClient cachingClient = new GroovyCypherGremlinClient(
+            gremlinServer.gremlinClient(),
+            TranslatorFactory.gremlinGroovy(TranslatorFlavor.gremlinServer()),
+            cache
+        );
+        String cypher = "MATCH (p:person) WHERE p.age > $age RETURN p.name AS name";
+
+        assertThat(cachingClient.submit(cypher, singletonMap("age", 30)).all())
+            .extracting("name")
+            .containsExactlyInAnyOrder("josh", "peter");
+        assertThat(cachingClient.submit(cypher, singletonMap("age", 32)).all())
+            .extracting("name")
+            .containsExactlyInAnyOrder("peter");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+    }
 }
@@ -15,22 +15,30 @@
  */
 package org.opencypher.gremlin.client;
 
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.junit.Before;
 import org.junit.Test;
+import org.opencypher.gremlin.traversal.PreparedTraversalCache;
 
 public class InMemoryCypherGremlinClientTest {
 
+    private TinkerGraph graph;
     private InMemoryCypherGremlinClient client;
 
     @Before
     public void setUp() {
-        TinkerGraph graph = TinkerGraph.open();
+        graph = TinkerGraph.open();
         client = new InMemoryCypherGremlinClient(graph.traversal());
     }
 
@@ -52,4 +60,117 @@ public class InMemoryCypherGremlinClientTest {
         assertThat(throwable)
             .hasMessageContaining("Invalid input");
     }
+
+    @Test
+    public void updatingQueryWithUnreadResults() {
+        client.submit("UNWIND range(1, 3) AS i CREATE (n:L {i: i}) RETURN n");
+
+        assertThat(graph.traversal().V().hasLabel("L").count().next()).isEqualTo(3L);
+    }
+
+    @Test
+    public void closeResultSet() {
+        client.submit("UNWIND range(1, 3) AS i CREATE (:L {i: i})");
+        CypherResultSet resultSet = client.submit("MATCH (n:L) RETURN n.i AS i ORDER BY i");
+        Iterator<Map<String, Object>> iterator = resultSet.iterator();
+
+        assertThat(iterator.next()).containsEntry("i", 1L);
+        assertThat(iterator.hasNext()).isTrue();
+        resultSet.close();
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void submitOnExecutor() {
+        AtomicInteger submitted = new AtomicInteger();
+        Executor executor = command -> {
+            submitted.incrementAndGet();
+            command.run();
+        };
+        CypherGremlinClient asyncClient = CypherGremlinClient.inMemory(graph.traversal(), executor);
+        List<Map<String, Object>> results = asyncClient.submit("RETURN 1 AS one").all();
+
+        assertThat(results)
+            .extracting("one")
+            .containsExactly(1L);
+        assertThat(submitted.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void submitAllOnDirectExecutor() {
+        Executor executor = Runnable::run;
+        CypherGremlinClient syncClient = CypherGremlinClient.inMemory(graph.traversal(), executor);
+        List<CypherStatement> statements = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            statements.add(CypherStatement.create("RETURN $i AS i", singletonMap("i", i)));
+        }
+
+        List<CypherResultSet> resultSets = syncClient.submitAll(statements, 1, executor).join();
+
+        assertThat(resultSets).hasSize(10000);
+        assertThat(resultSets.get(9999).all())
+            .extracting("i")
+            .containsExactly(9999L);
+    }
+
+    @Test
+    public void submitAllOnRejectingExecutor() {
+        AtomicInteger accepted = new AtomicInteger();
+        Executor executor = command -> {
+            if (accepted.incrementAndGet() > 3) {
+                throw new RejectedExecutionException("Executor is shut down");
+            }
+            command.run();
+        };
+        CypherGremlinClient syncClient = CypherGremlinClient.inMemory(graph.traversal(), Runnable::run);
+        List<CypherStatement> statements = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            statements.add(CypherStatement.create("RETURN $i AS i", singletonMap("i", i)));
+        }
+
+        Throwable throwable = catchThrowable(() -> syncClient.submitAll(statements, 2, executor).join());
+
+        assertThat(throwable)
+            .hasRootCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void preparedTraversals() {
+        PreparedTraversalCache preparedTraversals = new PreparedTraversalCache(16);
+        InMemoryCypherGremlinClient preparedClient = new InMemoryCypherGremlinClient(
+            graph.traversal(), Runnable::run, preparedTraversals);
+        String create = "CREATE (n:L {i: $i}) RETURN n.i AS i";
+        String match = "MATCH (n:L) WHERE n.i = $i RETURN count(n) AS count";
+
+        preparedClient.submit(create, singletonMap("i", 1)).all();
+        preparedClient.submit(create, singletonMap("i", 1)).all();
+        preparedClient.submit(create, singletonMap("i", 2)).all();
+
+        assertThat(preparedClient.submit(match, singletonMap("i", 1)).all())
+            .extracting("count")
+            .containsExactly(2L);
+        assertThat(preparedClient.submit(match, singletonMap("i", 2)).all())
+            .extracting("count")
+            .containsExactly(1L);
+        assertThat(preparedClient.submit(match, singletonMap("i", 1)).all())
+            .extracting("count")
+            .containsExactly(2L);
+
+        assertThat(preparedTraversals.hitCount()).isEqualTo(4);
+        assertThat(preparedTraversals.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void inlinedParametersAreNotPrepared() {
+        PreparedTraversalCache preparedTraversals = new PreparedTraversalCache(16);
+        InMemoryCypherGremlinClient preparedClient = new InMemoryCypherGremlinClient(
+            graph.traversal(), Runnable::run, preparedTraversals);
+        String limit = "UNWIND range(1, 10) AS i RETURN i LIMIT $n";
+
+        assertThat(preparedClient.submit(limit, singletonMap("n", 2)).all()).hasSize(2);
+        assertThat(preparedClient.submit(limit, singletonMap("n", 3)).all()).hasSize(3);
+
+        assertThat(preparedTraversals.hitCount()).isEqualTo(0);
+        assertThat(preparedTraversals.size()).isEqualTo(0);
+    }
 }
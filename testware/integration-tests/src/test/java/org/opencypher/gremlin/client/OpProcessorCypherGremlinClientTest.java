@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import org.apache.tinkerpop.gremlin.driver.Client;
@@ -84,4 +85,29 @@ public class OpProcessorCypherGremlinClientTest {
         assertThat(throwable)
             .hasMessageContaining("Invalid input");
     }
+
+    @Test
+    public void cursor() {
+        OpProcessorCypherGremlinClient client = new OpProcessorCypherGremlinClient(gremlinServer.gremlinClient());
+        CypherStatement statement = CypherStatement.create("MATCH (n) RETURN n.name AS name");
+        List<Map<String, Object>> results = new ArrayList<>();
+        try (CypherCursor cursor = client.cursor(statement, 2)) {
+            cursor.forEachRemaining(results::add);
+        }
+
+        assertThat(results)
+            .extracting("name")
+            .containsExactlyInAnyOrder("marko", "vadas", "lop", "josh", "ripple", "peter");
+    }
+
+    @Test
+    public void closeCursor() {
+        OpProcessorCypherGremlinClient client = new OpProcessorCypherGremlinClient(gremlinServer.gremlinClient());
+        CypherStatement statement = CypherStatement.create("MATCH (n) RETURN n.name AS name");
+        CypherCursor cursor = client.cursor(statement, 2);
+        assertThat(cursor.next()).containsKey("name");
+        cursor.close();
+
+        assertThat(cursor.hasNext()).isFalse();
+    }
 }
@@ -31,6 +31,7 @@ import org.neo4j.driver.v1.Driver;
 import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Session;
 import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.Transaction;
 import org.neo4j.driver.v1.types.Node;
 import org.neo4j.driver.v1.types.Path;
 import org.neo4j.driver.v1.types.Relationship;
@@ -72,6 +73,24 @@ public class GremlinNeo4jDriverTest {
         }
     }
 
+    @Test
+    public void recordAccess() {
+        Driver driver = GremlinDatabase.driver("//localhost:" + server.getPort());
+
+        try (Session session = driver.session()) {
+            Record record = session.run("MATCH (p:person {name: 'marko'}) RETURN p, p.name AS name, p.age AS age").single();
+
+            assertThat(record.keys()).containsExactly("p", "name", "age");
+            assertThat(record.index("age")).isEqualTo(2);
+            assertThat(record.get(1).asString()).isEqualTo("marko");
+            assertThat(record.get("missing").isNull()).isTrue();
+            assertThat(record.get("age", 0)).isEqualTo(29);
+            assertThat(record.get("p").asNode().get("name").asString()).isEqualTo("marko");
+            assertThat(record.asMap()).containsEntry("name", "marko").containsEntry("age", 29L);
+            assertThat(record.fields()).hasSize(3);
+        }
+    }
+
     @Test
     public void withParameter() {
         Driver driver = GremlinDatabase.driver("//localhost:" + server.getPort());
@@ -161,6 +180,66 @@ public class GremlinNeo4jDriverTest {
         }
     }
 
+    @Test
+    public void compactResults() {
+        Config config = Config.build()
+            .withCompactResults()
+            .toConfig();
+
+        Driver driver = GremlinDatabase.driver("//localhost:" + server.getPort(), config);
+
+        try (Session session = driver.session()) {
+            StatementResult result = session.run("MATCH p = (a:person {name: 'marko'})-[r:knows]->(b) " +
+                "RETURN a, r, p, b.name AS name ORDER BY name");
+            List<Record> records = result.list();
+
+            assertThat(records).hasSize(2);
+            Record record = records.get(0);
+            assertThat(record.keys()).containsExactly("a", "r", "p", "name");
+            assertThat(record.get("a").asNode().get("name").asString()).isEqualTo("marko");
+            assertThat(record.get("r").asRelationship().hasType("knows")).isTrue();
+            assertThat(record.get("p").asPath().nodes()).hasSize(2);
+            assertThat(record.get("name").asString()).isEqualTo("josh");
+        }
+    }
+
+    @Test
+    public void compactResultsWithMarkerValues() {
+        Config config = Config.build()
+            .withCompactResults()
+            .toConfig();
+
+        Driver driver = GremlinDatabase.driver("//localhost:" + server.getPort(), config);
+
+        try (Session session = driver.session()) {
+            StatementResult result = session.run("RETURN '  cypher.columns' AS s, " +
+                "['  cypher.node', 1, 'x', {}] AS l, " +
+                "{`  cypher.columns`: ['a']} AS m");
+            Record record = result.single();
+
+            assertThat(record.keys()).containsExactly("s", "l", "m");
+            assertThat(record.get("s").asString()).isEqualTo("  cypher.columns");
+            assertThat(record.get("l").asList()).containsExactly("  cypher.node", 1L, "x", new HashMap<>());
+            assertThat(record.get("m").asMap()).containsOnlyKeys("  cypher.columns");
+        }
+    }
+
+    @Test
+    public void transaction() {
+        Driver driver = GremlinDatabase.driver("//localhost:" + server.getPort());
+
+        try (Session session = driver.session()) {
+            try (Transaction tx = session.beginTransaction()) {
+                tx.run("CREATE (:TxNode {i: 1})");
+                tx.run("CREATE (:TxNode {i: 2})");
+                tx.success();
+            }
+
+            long count = session.writeTransaction(tx ->
+                tx.run("MATCH (n:TxNode) RETURN count(n) AS count").single().get("count").asLong());
+            assertThat(count).isEqualTo(2L);
+        }
+    }
 
     @Test
     public void translating() {
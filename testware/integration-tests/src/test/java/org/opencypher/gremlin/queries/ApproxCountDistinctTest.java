@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.queries;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.opencypher.gremlin.rules.GremlinServerExternalResource;
+import org.opencypher.gremlin.server.EmbeddedGremlinServer;
+import org.opencypher.gremlin.server.op.cypher.CypherOpProcessor;
+import org.opencypher.gremlin.test.TestCommons;
+
+public class ApproxCountDistinctTest {
+
+    @ClassRule
+    public static final GremlinServerExternalResource gremlinServer =
+        new GremlinServerExternalResource(TestCommons::emptyGraph,
+            () -> EmbeddedGremlinServer.builder()
+                .processorSettings(
+                    CypherOpProcessor.class,
+                    singletonMap("translatorDefinition", "gremlin+cfog_server_extensions"))
+                .defaultParameters()
+                .build());
+
+    private List<Map<String, Object>> submitAndGet(String cypher) {
+        return gremlinServer.cypherGremlinClient().submit(cypher).all();
+    }
+
+    @Test
+    public void exactForSmallInput() {
+        List<Map<String, Object>> results = submitAndGet(
+            "UNWIND [1, 2, 2, 1.0, 'a', 'a', null] AS i " +
+                "RETURN gremlin.approxCountDistinct(i) AS c"
+        );
+
+        assertThat(results)
+            .extracting("c")
+            .containsExactly(3L);
+    }
+
+    @Test
+    public void empty() {
+        List<Map<String, Object>> results = submitAndGet(
+            "UNWIND [] AS i " +
+                "RETURN gremlin.approxCountDistinct(i) AS c"
+        );
+
+        assertThat(results)
+            .extracting("c")
+            .containsExactly(0L);
+    }
+
+    @Test
+    public void perGroup() {
+        List<Map<String, Object>> results = submitAndGet(
+            "UNWIND range(1, 10) AS i " +
+                "RETURN i % 2 AS parity, gremlin.approxCountDistinct(i / 2) AS c"
+        );
+
+        assertThat(results)
+            .extracting("parity", "c")
+            .containsExactlyInAnyOrder(tuple(0L, 5L), tuple(1L, 5L));
+    }
+
+    @Test
+    public void boundedError() {
+        List<Map<String, Object>> results = submitAndGet(
+            "UNWIND range(1, 20000) AS i " +
+                "RETURN " +
+                "gremlin.approxCountDistinct(i % 10000) AS c, " +
+                "gremlin.approxCountDistinct(i % 10000, 10) AS c10"
+        );
+
+        Map<String, Object> row = results.get(0);
+        assertThat((Long) row.get("c")).isBetween(9700L, 10300L);
+        assertThat((Long) row.get("c10")).isBetween(9000L, 11000L);
+    }
+
+    @Test
+    public void precisionParameter() {
+        List<Map<String, Object>> results = gremlinServer.cypherGremlinClient().submit(
+            "UNWIND range(1, 20000) AS i " +
+                "RETURN gremlin.approxCountDistinct(i % 10000, $precision) AS c",
+            singletonMap("precision", 10)
+        ).all();
+
+        assertThat((Long) results.get(0).get("c")).isBetween(9000L, 11000L);
+    }
+
+    @Test
+    public void invalidPrecision() {
+        assertThatThrownBy(() -> submitAndGet(
+            "UNWIND range(1, 10) AS i " +
+                "RETURN gremlin.approxCountDistinct(i, 32) AS c"))
+            .hasMessageContaining("Precision of approxCountDistinct");
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.queries;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.opencypher.gremlin.rules.GremlinServerExternalResource;
+import org.opencypher.gremlin.server.EmbeddedGremlinServer;
+import org.opencypher.gremlin.server.op.cypher.CypherOpProcessor;
+import org.opencypher.gremlin.test.TestCommons;
+
+public class ApproximatePercentileTest {
+
+    @ClassRule
+    public static final GremlinServerExternalResource gremlinServer =
+        new GremlinServerExternalResource(TestCommons::emptyGraph,
+            () -> EmbeddedGremlinServer.builder()
+                .processorSettings(
+                    CypherOpProcessor.class,
+                    singletonMap("translatorDefinition",
+                        "gremlin+cfog_server_extensions+approximate_percentiles"))
+                .defaultParameters()
+                .build());
+
+    private List<Map<String, Object>> submitAndGet(String cypher) {
+        return gremlinServer.cypherGremlinClient().submit(cypher).all();
+    }
+
+    @Test
+    public void exactForSmallInput() {
+        List<Map<String, Object>> results = submitAndGet(
+            "UNWIND [10, 20, 30] AS i " +
+                "RETURN " +
+                "percentileCont(i, 0.33) AS c33, " +
+                "percentileCont(i, 0.5) AS c50, " +
+                "percentileDisc(i, 0.34) AS d34, " +
+                "percentileDisc(i, 0.67) AS d67"
+        );
+
+        assertThat(results)
+            .extracting("c33", "c50", "d34", "d67")
+            .containsExactly(tuple(16.6, 20L, 20L, 30L));
+    }
+
+    @Test
+    public void empty() {
+        List<Map<String, Object>> results = submitAndGet(
+            "UNWIND [] AS i " +
+                "RETURN percentileDisc(i, 0.5) AS p50"
+        );
+
+        assertThat(results)
+            .extracting("p50")
+            .containsExactly((Object) null);
+    }
+
+    @Test
+    public void perGroup() {
+        List<Map<String, Object>> results = submitAndGet(
+            "UNWIND range(1, 10) AS i " +
+                "RETURN i % 2 AS parity, percentileDisc(i, 0.5) AS p50"
+        );
+
+        assertThat(results)
+            .extracting("parity", "p50")
+            .containsExactlyInAnyOrder(tuple(0L, 6L), tuple(1L, 5L));
+    }
+
+    @Test
+    public void boundedRankError() {
+        List<Map<String, Object>> results = submitAndGet(
+            "UNWIND range(1, 10000) AS i " +
+                "RETURN percentileDisc(i, 0.5) AS p50, percentileDisc(i, 0.99) AS p99"
+        );
+
+        Map<String, Object> row = results.get(0);
+        assertThat((Long) row.get("p50")).isBetween(4900L, 5100L);
+        assertThat((Long) row.get("p99")).isBetween(9800L, 10000L);
+    }
+
+    @Test
+    public void explicitAccuracy() {
+        List<Map<String, Object>> results = submitAndGet(
+            "UNWIND range(1, 10000) AS i " +
+                "RETURN gremlin.percentileDisc(i, 0.5, 0.05) AS p50, gremlin.percentileCont(i, 0.5) AS c50"
+        );
+
+        Map<String, Object> row = results.get(0);
+        assertThat((Long) row.get("p50")).isBetween(4500L, 5500L);
+        assertThat(((Number) row.get("c50")).doubleValue()).isBetween(4900.0, 5100.0);
+    }
+
+    @Test
+    public void accuracyParameter() {
+        List<Map<String, Object>> results = gremlinServer.cypherGremlinClient().submit(
+            "UNWIND range(1, 10000) AS i " +
+                "RETURN gremlin.percentileDisc(i, 0.5, $accuracy) AS p50",
+            singletonMap("accuracy", 0.05)
+        ).all();
+
+        assertThat((Long) results.get(0).get("p50")).isBetween(4500L, 5500L);
+    }
+
+    @Test
+    public void invalidAccuracy() {
+        assertThatThrownBy(() -> submitAndGet(
+            "UNWIND range(1, 10) AS i " +
+                "RETURN gremlin.percentileDisc(i, 0.5, 2) AS p50"))
+            .hasMessageContaining("Accuracy of percentileCont and percentileDisc");
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.queries;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.opencypher.gremlin.rules.GremlinServerExternalResource;
+import org.opencypher.gremlin.server.EmbeddedGremlinServer;
+import org.opencypher.gremlin.server.op.cypher.CypherOpProcessor;
+import org.opencypher.gremlin.test.TestCommons;
+
+public class CommonSubexpressionTest {
+
+    @ClassRule
+    public static final GremlinServerExternalResource gremlinServer =
+        new GremlinServerExternalResource(TestCommons::emptyGraph,
+            () -> EmbeddedGremlinServer.builder()
+                .processorSettings(
+                    CypherOpProcessor.class,
+                    singletonMap("translatorDefinition", "gremlin+cfog_server_extensions+common_subexpressions"))
+                .defaultParameters()
+                .build());
+
+    private List<Map<String, Object>> submitAndGet(String cypher) {
+        return gremlinServer.cypherGremlinClient().submit(cypher).all();
+    }
+
+    @Test
+    public void sharedArithmetic() {
+        List<Map<String, Object>> results = submitAndGet(
+            "UNWIND [{price: 10, qty: 2}, {price: 5, qty: null}] AS o " +
+                "RETURN o.price * o.qty AS total, o.price * o.qty + 1 AS next, o.price AS price"
+        );
+
+        assertThat(results)
+            .extracting("total", "next", "price")
+            .containsExactly(
+                tuple(20L, 21L, 10L),
+                tuple(null, null, 5L)
+            );
+    }
+
+    @Test
+    public void sharedUnderCondition() {
+        List<Map<String, Object>> results = submitAndGet(
+            "UNWIND [1, 2, 3] AS i " +
+                "RETURN i * 10 AS x, CASE WHEN i > 1 THEN i * 10 + 1 ELSE 0 END AS y"
+        );
+
+        assertThat(results)
+            .extracting("x", "y")
+            .containsExactly(
+                tuple(10L, 0L),
+                tuple(20L, 21L),
+                tuple(30L, 31L)
+            );
+    }
+
+    @Test
+    public void nestedScopeIsNotShared() {
+        List<Map<String, Object>> results = submitAndGet(
+            "WITH [1, 2] AS l, 3 AS i " +
+                "RETURN [i IN l | i * 2] AS doubled, i * 2 AS a, i * 2 + 1 AS b"
+        );
+
+        assertThat(results)
+            .extracting("doubled", "a", "b")
+            .containsExactly(tuple(asList(2L, 4L), 6L, 7L));
+    }
+
+    @Test
+    public void intermediateProjection() {
+        List<Map<String, Object>> results = submitAndGet(
+            "UNWIND ['a', 'Bb'] AS s " +
+                "WITH toUpper(s) + '!' AS x, size(toUpper(s) + '!') AS n " +
+                "RETURN x, n ORDER BY n"
+        );
+
+        assertThat(results)
+            .extracting("x", "n")
+            .containsExactly(
+                tuple("A!", 2L),
+                tuple("BB!", 3L)
+            );
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.queries;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.opencypher.gremlin.rules.GremlinServerExternalResource;
+import org.opencypher.gremlin.server.EmbeddedGremlinServer;
+import org.opencypher.gremlin.server.op.cypher.CypherOpProcessor;
+import org.opencypher.gremlin.test.TestCommons;
+
+public class CompiledExpressionTest {
+
+    @ClassRule
+    public static final GremlinServerExternalResource gremlinServer =
+        new GremlinServerExternalResource(TestCommons::modernGraph,
+            () -> EmbeddedGremlinServer.builder()
+                .processorSettings(
+                    CypherOpProcessor.class,
+                    singletonMap("translatorDefinition",
+                        "gremlin+cfog_server_extensions+compiled_expressions"))
+                .defaultParameters()
+                .build());
+
+    private List<Map<String, Object>> submitAndGet(String cypher) {
+        return gremlinServer.cypherGremlinClient().submit(cypher).all();
+    }
+
+    @Test
+    public void arithmeticAndComparison() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (n:person) " +
+                "RETURN n.name AS name, n.age * 2 + 1 > 60 AND toLower(n.name) STARTS WITH 'j' AS r"
+        );
+
+        assertThat(results)
+            .extracting("name", "r")
+            .containsExactlyInAnyOrder(
+                tuple("marko", false),
+                tuple("vadas", false),
+                tuple("josh", true),
+                tuple("peter", false)
+            );
+    }
+
+    @Test
+    public void nullPropagation() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (n) " +
+                "RETURN n.name AS name, n.age + 1 AS a, n.age > 30 OR n.lang = 'java' AS r"
+        );
+
+        assertThat(results)
+            .extracting("name", "a", "r")
+            .containsExactlyInAnyOrder(
+                tuple("marko", 30L, null),
+                tuple("vadas", 28L, null),
+                tuple("josh", 33L, true),
+                tuple("peter", 36L, true),
+                tuple("lop", null, true),
+                tuple("ripple", null, true)
+            );
+    }
+
+    @Test
+    public void numericTypes() {
+        List<Map<String, Object>> results = submitAndGet(
+            "WITH 7 AS seven " +
+                "RETURN seven / 2 AS div, seven % 3 AS mod, 2 ^ 3 AS pow, seven + 2.5 AS sum, 'a' + seven AS concat"
+        );
+
+        assertThat(results)
+            .extracting("div", "mod", "pow", "sum", "concat")
+            .containsExactly(tuple(3L, 1L, 8.0, 9.5, "a7"));
+    }
+
+    @Test
+    public void functions() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (n:software) " +
+                "RETURN toUpper(n.name) + size(n.lang) AS r, coalesce(n.age, -1) AS c"
+        );
+
+        assertThat(results)
+            .extracting("r", "c")
+            .containsExactlyInAnyOrder(
+                tuple("LOP4", -1L),
+                tuple("RIPPLE4", -1L)
+            );
+    }
+
+    @Test
+    public void nonDeterministicOperands() {
+        List<Map<String, Object>> results = submitAndGet(
+            "UNWIND range(1, 10) AS i " +
+                "RETURN rand() = rand() AS r"
+        );
+
+        assertThat(results)
+            .extracting("r")
+            .contains(false);
+    }
+
+    @Test
+    public void floatingPointComparison() {
+        List<Map<String, Object>> results = submitAndGet(
+            "UNWIND [0.0, -0.0] AS z " +
+                "WITH z, z / 0.0 AS nan " +
+                "RETURN nan = nan AS a, z = 0.0 AS b, nan > 1 AS c, nan < 1 AS d"
+        );
+
+        assertThat(results)
+            .extracting("a", "b", "c", "d")
+            .containsExactly(
+                tuple(false, true, false, false),
+                tuple(false, true, false, false)
+            );
+    }
+}
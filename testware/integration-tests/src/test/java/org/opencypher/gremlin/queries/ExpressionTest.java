@@ -18,6 +18,8 @@ package org.opencypher.gremlin.queries;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -180,6 +182,35 @@ public class ExpressionTest {
         runExpressionTests(args, tests);
     }
 
+    @Test
+    @Category(SkipExtensions.CustomFunctions.class)
+    public void arithmeticTypes() {
+        Map<String, Object> args = new HashMap<>();
+        args.put("i7", 7L);
+        args.put("i2", 2L);
+        args.put("f", 0.5);
+        args.put("n", null);
+
+        List<Map<String, Object>> results = submitAndGet(
+            "RETURN $i7 / $i2 AS div, $i7 % $i2 AS mod, $i7 - $i2 AS sub, $i7 * $f AS mul, $i7 - $n AS nul",
+            args);
+
+        assertThat(results)
+            .extracting("div", "mod", "sub", "mul", "nul")
+            .containsExactly(tuple(3L, 1L, 5L, 3.5, null));
+    }
+
+    @Test
+    @Category(SkipExtensions.CustomFunctions.class)
+    public void integerOverflow() {
+        Map<String, Object> args = new HashMap<>();
+        args.put("max", Long.MAX_VALUE);
+        args.put("i2", 2L);
+
+        assertThatThrownBy(() -> submitAndGet("RETURN $max * $i2 AS r", args))
+            .hasMessageContaining("long overflow");
+    }
+
     private void runExpressionTests(Map<String, Object> args, Map<String, Boolean> tests) {
         for (Map.Entry<String, Boolean> entry : tests.entrySet()) {
             String expr = entry.getKey();
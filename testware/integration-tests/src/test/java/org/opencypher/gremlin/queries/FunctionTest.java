@@ -16,6 +16,7 @@
 package org.opencypher.gremlin.queries;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
@@ -176,6 +177,58 @@ public class FunctionTest {
             .containsExactly(2L);
     }
 
+    @Test
+    public void sizeOfRelationshipPatternInReturn() {
+        String cypher = "MATCH (n:person) " +
+            "RETURN n.name AS name, size((n)-->()) AS out, " +
+            "size(()-[:knows]->(n)) AS known, size((n)--()) AS degree";
+        List<Map<String, Object>> results = submitAndGet(cypher);
+
+        assertThat(results)
+            .extracting("name", "out", "known", "degree")
+            .containsExactlyInAnyOrder(
+                tuple("marko", 3L, 0L, 3L),
+                tuple("vadas", 0L, 1L, 1L),
+                tuple("josh", 2L, 1L, 3L),
+                tuple("peter", 1L, 0L, 1L)
+            );
+    }
+
+    @Test
+    public void sizeOfRelationshipPatternWithBoundNodeFilters() {
+        String cypher = "MATCH (n) " +
+            "RETURN n.name AS name, size((n:person)-->()) AS out, " +
+            "size((n {name: 'josh'})-->()) AS joshOut";
+        List<Map<String, Object>> results = submitAndGet(cypher);
+
+        assertThat(results)
+            .extracting("name", "out", "joshOut")
+            .containsExactlyInAnyOrder(
+                tuple("marko", 3L, 0L),
+                tuple("vadas", 0L, 0L),
+                tuple("josh", 2L, 2L),
+                tuple("peter", 1L, 0L),
+                tuple("lop", 0L, 0L),
+                tuple("ripple", 0L, 0L)
+            );
+    }
+
+    @Test
+    public void existsPatternInReturn() {
+        String cypher = "MATCH (n:person) " +
+            "RETURN n.name AS name, exists((n)-[:created]->()) AS creator";
+        List<Map<String, Object>> results = submitAndGet(cypher);
+
+        assertThat(results)
+            .extracting("name", "creator")
+            .containsExactlyInAnyOrder(
+                tuple("marko", true),
+                tuple("vadas", false),
+                tuple("josh", true),
+                tuple("peter", true)
+            );
+    }
+
     @Test
     public void head() {
         String cypher = "MATCH (n:person) WITH n.name AS name " +
@@ -391,6 +444,23 @@ public class FunctionTest {
         testRegex("n.name =~ null");
     }
 
+    @Test
+    @Category(SkipExtensions.CustomPredicates.class)
+    public void stringRegexParameter() {
+        testRegexParameter(".*a.*", "vadas", "marko");
+        testRegexParameter("j.*", "josh");
+        testRegexParameter(null);
+    }
+
+    private void testRegexParameter(String regex, Object... expected) {
+        List<Map<String, Object>> results = gremlinServer.cypherGremlinClient()
+            .submit("MATCH (n) WHERE n.name =~ $regex RETURN n.name as n", singletonMap("regex", regex))
+            .all();
+        assertThat(results)
+            .extracting("n")
+            .containsExactlyInAnyOrder(expected);
+    }
+
     private void testRegex(String predicate, Object... expected) {
         List<Map<String, Object>> results = submitAndGet(
             "MATCH (n) WHERE " + predicate + " RETURN n.name as n");
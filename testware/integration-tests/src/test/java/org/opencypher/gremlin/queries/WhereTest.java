@@ -172,6 +172,45 @@ public class WhereTest {
             .containsExactlyInAnyOrder("marko", "josh", "peter");
     }
 
+    @Test
+    public void notPattern() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (n:person) " +
+                "WHERE NOT (n)-[:created]->() " +
+                "RETURN n.name"
+        );
+
+        assertThat(results)
+            .extracting("n.name")
+            .containsExactly("vadas");
+    }
+
+    @Test
+    public void existsPattern() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (n:person) " +
+                "WHERE exists((n)-[:knows]->()) " +
+                "RETURN n.name"
+        );
+
+        assertThat(results)
+            .extracting("n.name")
+            .containsExactly("marko");
+    }
+
+    @Test
+    public void degreeComparison() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (n:person) " +
+                "WHERE size((n)-->()) > 1 " +
+                "RETURN n.name"
+        );
+
+        assertThat(results)
+            .extracting("n.name")
+            .containsExactlyInAnyOrder("marko", "josh");
+    }
+
     @Test
     @Category(SkipExtensions.CustomPredicates.class)
     public void constantsCustomPredicate() {
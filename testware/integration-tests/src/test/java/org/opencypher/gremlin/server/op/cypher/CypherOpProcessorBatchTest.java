@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.op.cypher;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.tinkerpop.gremlin.driver.Client;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.driver.Tokens;
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.opencypher.gremlin.rules.GremlinServerExternalResource;
+
+public class CypherOpProcessorBatchTest {
+
+    @ClassRule
+    public static final GremlinServerExternalResource gremlinServer = new GremlinServerExternalResource();
+
+    @Test
+    public void batch() throws Exception {
+        List<Result> results = submitBatch(
+            statement("CREATE (n:Batch {i: $i}) RETURN n.i AS i", singletonMap("i", 1)),
+            statement("CREATE (n:Batch {i: $i}) RETURN n.i AS i", singletonMap("i", 2)),
+            statement("MATCH (n:Batch) RETURN n.i AS i ORDER BY i", emptyMap())
+        );
+
+        assertThat(results).hasSize(3);
+        assertThat(rows(results.get(0))).extracting("i").containsExactly(1L);
+        assertThat(rows(results.get(1))).extracting("i").containsExactly(2L);
+        assertThat(rows(results.get(2))).extracting("i").containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void batchError() {
+        assertThatThrownBy(() -> submitBatch(
+            statement("RETURN 1", emptyMap()),
+            statement("INVALID", emptyMap())
+        ))
+            .hasMessageContaining("Batch statement 1 failed")
+            .hasMessageContaining("Invalid input");
+    }
+
+    private static Map<String, Object> statement(String cypher, Map<String, ?> bindings) {
+        Map<String, Object> statement = new HashMap<>();
+        statement.put(Tokens.ARGS_GREMLIN, cypher);
+        statement.put(Tokens.ARGS_BINDINGS, bindings);
+        return statement;
+    }
+
+    @SafeVarargs
+    private static List<Result> submitBatch(Map<String, Object>... statements) throws Exception {
+        Client client = gremlinServer.gremlinClient();
+        RequestMessage request = RequestMessage.build(CypherOpProcessor.OPS_BATCH)
+            .processor("cypher")
+            .addArg(CypherOpProcessor.ARGS_STATEMENTS, asList(statements))
+            .create();
+        return client.submitAsync(request).get().all().get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> rows(Result result) {
+        return (List<Map<String, Object>>) result.getObject();
+    }
+}
@@ -161,6 +161,22 @@ public abstract class AbstractBenchmark {
         );
     }
 
+    @Benchmark
+    public void countByLabel() {
+        client.run(
+            "MATCH (n:Person) " +
+                "RETURN count(n)"
+        );
+    }
+
+    @Benchmark
+    public void countRelationshipsPerNode() {
+        client.run(
+            "MATCH (n)-[:ACTED_IN]->() " +
+                "RETURN n, count(*)"
+        );
+    }
+
     @Benchmark
     public void groupByProperty() {
         client.run(
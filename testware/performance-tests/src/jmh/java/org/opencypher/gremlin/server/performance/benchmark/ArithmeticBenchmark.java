@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.performance.benchmark;
+
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.translator.Translator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures in-process throughput of an arithmetic-heavy projection over 1M rows:
+ * {@code math()} steps (no extensions), generic arithmetic functions (untyped operands)
+ * and integer-specialized arithmetic functions (operands typed by {@code toInteger}).
+ * <p>
+ * Run with {@code -prof gc} to report allocated bytes per row ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ArithmeticBenchmark {
+
+    private static final int ROWS = 1_000_000;
+
+    private static final String PROJECTION = "RETURN i * 3 - i / 2 + i % 7 AS r";
+
+    private GraphTraversalSource gts;
+    private CypherAst untyped;
+    private CypherAst typed;
+
+    @Setup
+    public void setup() {
+        gts = TinkerGraph.open().traversal();
+        List<Long> rows = LongStream.range(0, ROWS).boxed().collect(toList());
+        untyped = CypherAst.parse("UNWIND $rows AS i " + PROJECTION, singletonMap("rows", rows));
+        typed = CypherAst.parse("UNWIND $rows AS row WITH toInteger(row) AS i " + PROJECTION, singletonMap("rows", rows));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void mathSteps(Blackhole blackhole) {
+        Translator<GraphTraversal, P> translator = Translator.builder()
+            .traversal(new DefaultGraphTraversal(gts.clone()))
+            .build();
+        run(untyped.buildTranslation(translator), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void genericArithmetic(Blackhole blackhole) {
+        run(untyped.buildTranslation(extensions()), blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void typedArithmetic(Blackhole blackhole) {
+        run(typed.buildTranslation(extensions()), blackhole);
+    }
+
+    private Translator<GraphTraversal, P> extensions() {
+        return Translator.builder()
+            .traversal(new DefaultGraphTraversal(gts.clone()))
+            .enableCypherExtensions()
+            .build();
+    }
+
+    private static void run(GraphTraversal<?, ?> traversal, Blackhole blackhole) {
+        traversal.forEachRemaining(blackhole::consume);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.performance.benchmark;
+
+import static java.util.Arrays.asList;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.tinkerpop.gremlin.process.remote.traversal.DefaultRemoteTraverser;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.opencypher.gremlin.traversal.CustomFunctions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures a single invocation of a custom function on a typical argument, one result per {@code function}.
+ * <p>
+ * Run with {@code -prof gc} to report allocated bytes per invocation ({@code gc.alloc.rate.norm});
+ * compare against a run on the previous revision to see the effect of runtime changes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomFunctionsBenchmark {
+
+    @Param({
+        "toString",
+        "toBoolean",
+        "toInteger",
+        "toIntegerFromString",
+        "toFloat",
+        "toFloatFromString",
+        "round",
+        "size",
+        "trim",
+        "toUpper",
+        "toLower",
+        "substring",
+        "split",
+        "replace"
+    })
+    public String function;
+
+    private Function<Traverser, Object> customFunction;
+    private Traverser<Object> traverser;
+
+    @Setup
+    public void setup() {
+        switch (function) {
+            case "toString":
+                prepare(CustomFunctions.cypherToString(), 42L);
+                break;
+            case "toBoolean":
+                prepare(CustomFunctions.cypherToBoolean(), "true");
+                break;
+            case "toInteger":
+                prepare(CustomFunctions.cypherToInteger(), 42.5);
+                break;
+            case "toIntegerFromString":
+                prepare(CustomFunctions.cypherToInteger(), "42");
+                break;
+            case "toFloat":
+                prepare(CustomFunctions.cypherToFloat(), 42L);
+                break;
+            case "toFloatFromString":
+                prepare(CustomFunctions.cypherToFloat(), "42.5");
+                break;
+            case "round":
+                prepare(CustomFunctions.cypherRound(), 42.5);
+                break;
+            case "size":
+                prepare(CustomFunctions.cypherSize(), "cypher");
+                break;
+            case "trim":
+                prepare(CustomFunctions.cypherTrim(), "  cypher  ");
+                break;
+            case "toUpper":
+                prepare(CustomFunctions.cypherToUpper(), "cypher");
+                break;
+            case "toLower":
+                prepare(CustomFunctions.cypherToLower(), "CYPHER");
+                break;
+            case "substring":
+                prepare(CustomFunctions.cypherSubstring(), asList("cypher for gremlin", 7L, 3L));
+                break;
+            case "split":
+                prepare(CustomFunctions.cypherSplit(), asList("a,b,c", ","));
+                break;
+            case "replace":
+                prepare(CustomFunctions.cypherReplace(), asList("cypher", "c", "C"));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown function: " + function);
+        }
+    }
+
+    private void prepare(Function<Traverser, Object> customFunction, Object argument) {
+        this.customFunction = customFunction;
+        this.traverser = new DefaultRemoteTraverser<>(argument, 1);
+    }
+
+    @Benchmark
+    public Object apply() {
+        return customFunction.apply(traverser);
+    }
+}
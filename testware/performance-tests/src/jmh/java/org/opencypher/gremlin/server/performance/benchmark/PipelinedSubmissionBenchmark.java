@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.performance.benchmark;
+
+import static java.util.Collections.singletonMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.tinkerpop.gremlin.driver.Client;
+import org.opencypher.gremlin.client.CypherGremlinClient;
+import org.opencypher.gremlin.client.CypherResultSet;
+import org.opencypher.gremlin.client.CypherStatement;
+import org.opencypher.gremlin.client.GremlinClientFactory;
+import org.opencypher.gremlin.server.EmbeddedGremlinServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PipelinedSubmissionBenchmark {
+
+    private static final int STATEMENTS = 200;
+
+    @Param({"plugin", "translating"})
+    public String clientType;
+
+    @Param({"1", "8", "32"})
+    public int maxInFlight;
+
+    private EmbeddedGremlinServer server;
+    private CypherGremlinClient client;
+    private List<CypherStatement> statements;
+
+    @Setup
+    public void setup() {
+        server = EmbeddedGremlinServer.builder()
+            .defaultParameters()
+            .build();
+        server.start();
+
+        Client gremlinClient = GremlinClientFactory.create(server.getPort());
+        client = "plugin".equals(clientType)
+            ? CypherGremlinClient.plugin(gremlinClient)
+            : CypherGremlinClient.translating(gremlinClient);
+
+        statements = new ArrayList<>();
+        for (int i = 0; i < STATEMENTS; i++) {
+            statements.add(CypherStatement.create("CREATE (n:Item {i: $i}) RETURN n.i", singletonMap("i", i)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        server.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STATEMENTS)
+    public void sequential(Blackhole blackhole) {
+        for (CypherStatement statement : statements) {
+            client.submitAsync(statement).join().forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STATEMENTS)
+    public void pipelined(Blackhole blackhole) {
+        for (CypherResultSet resultSet : client.submitAll(statements, maxInFlight).join()) {
+            resultSet.forEach(blackhole::consume);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.performance.benchmark;
+
+import static java.util.Collections.singletonMap;
+
+import org.opencypher.gremlin.server.performance.infra.CypherClient;
+import org.opencypher.gremlin.server.performance.infra.InMemoryClient;
+import org.opencypher.gremlin.traversal.PreparedTraversalCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+public class PreparedTinkerGraphBenchmark extends AbstractBenchmark {
+
+    private static final String[] NAMES = {"Tom Hanks", "Keanu Reeves", "Kevin Bacon", "Tom Cruise", "Meg Ryan"};
+
+    private InMemoryClient client;
+    private int next;
+
+    @Override
+    protected CypherClient configureClient(Blackhole blackhole) {
+        client = new InMemoryClient(blackhole, new PreparedTraversalCache(256));
+        return client;
+    }
+
+    @Benchmark
+    public void byPropertyParameter() {
+        client.run(
+            "MATCH (p:Person {name: $name}) " +
+                "RETURN p",
+            singletonMap("name", nextName())
+        );
+    }
+
+    @Benchmark
+    public void byPathParameter() {
+        client.run(
+            "MATCH (p:Person {name: $name})-[:ACTED_IN]->(m)<-[:ACTED_IN]-(coActors) " +
+                "RETURN coActors.name",
+            singletonMap("name", nextName())
+        );
+    }
+
+    private String nextName() {
+        next = (next + 1) % NAMES.length;
+        return NAMES[next];
+    }
+}
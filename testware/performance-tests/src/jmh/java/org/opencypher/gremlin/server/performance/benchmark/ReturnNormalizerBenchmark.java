@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.performance.benchmark;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static org.opencypher.gremlin.translation.Tokens.PROJECTION_ELEMENT;
+import static org.opencypher.gremlin.translation.Tokens.PROJECTION_ID;
+import static org.opencypher.gremlin.translation.Tokens.PROJECTION_INV;
+import static org.opencypher.gremlin.translation.Tokens.PROJECTION_OUTV;
+import static org.opencypher.gremlin.translation.Tokens.PROJECTION_RELATIONSHIP;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.traversal.ReturnNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures result normalization cost per row, on synthetic node and path rows.
+ * <p>
+ * Run with {@code -prof gc} to report allocated bytes per row ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReturnNormalizerBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private ReturnNormalizer nodeNormalizer;
+    private ReturnNormalizer pathNormalizer;
+    private List<Map<String, Object>> nodeRows;
+    private List<Map<String, Object>> pathRows;
+
+    @Setup
+    public void setup() {
+        nodeNormalizer = ReturnNormalizer.create(
+            CypherAst.parse("MATCH (n)-[r]->(m) RETURN n, r, m, n.age AS age").getReturnTypes());
+        pathNormalizer = ReturnNormalizer.create(
+            CypherAst.parse("MATCH p = (n)-[r]->(m) RETURN p, length(p) AS length").getReturnTypes());
+
+        nodeRows = new ArrayList<>(ROWS);
+        pathRows = new ArrayList<>(ROWS);
+        for (long i = 0; i < ROWS; i++) {
+            Map<Object, Object> source = vertex(i * 3);
+            Map<Object, Object> edge = edge(i * 3 + 1);
+            Map<Object, Object> target = vertex(i * 3 + 2);
+
+            Map<String, Object> relationship = new HashMap<>();
+            relationship.put(PROJECTION_INV, target.get(T.id));
+            relationship.put(PROJECTION_OUTV, source.get(T.id));
+            relationship.put(PROJECTION_ELEMENT, edge);
+
+            Map<String, Object> nodeRow = new LinkedHashMap<>();
+            nodeRow.put("n", source);
+            nodeRow.put("r", relationship);
+            nodeRow.put("m", target);
+            nodeRow.put("age", (int) i);
+            nodeRows.add(nodeRow);
+
+            Map<String, Object> pathRelationship = new HashMap<>();
+            pathRelationship.put(PROJECTION_ID, edge.get(T.id));
+            pathRelationship.put(PROJECTION_INV, target.get(T.id));
+            pathRelationship.put(PROJECTION_OUTV, source.get(T.id));
+
+            Map<String, Object> path = new HashMap<>();
+            path.put(PROJECTION_RELATIONSHIP, singletonList(pathRelationship));
+            path.put(PROJECTION_ELEMENT, asList(source, edge, target));
+
+            Map<String, Object> pathRow = new LinkedHashMap<>();
+            pathRow.put("p", path);
+            pathRow.put("length", 1);
+            pathRows.add(pathRow);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void nodeRows(Blackhole blackhole) {
+        for (Map<String, Object> row : nodeRows) {
+            blackhole.consume(nodeNormalizer.normalize(row));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void pathRows(Blackhole blackhole) {
+        for (Map<String, Object> row : pathRows) {
+            blackhole.consume(pathNormalizer.normalize(row));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void untypedRows(Blackhole blackhole) {
+        ReturnNormalizer normalizer = ReturnNormalizer.create(emptyMap());
+        for (Map<String, Object> row : nodeRows) {
+            blackhole.consume(normalizer.normalize(row));
+        }
+    }
+
+    private static Map<Object, Object> vertex(long id) {
+        Map<Object, Object> vertex = new HashMap<>();
+        vertex.put(T.id, id);
+        vertex.put(T.label, "person");
+        vertex.put("name", singletonList("name" + id));
+        vertex.put("age", singletonList((int) id));
+        return vertex;
+    }
+
+    private static Map<Object, Object> edge(long id) {
+        Map<Object, Object> edge = new HashMap<>();
+        edge.put(T.id, id);
+        edge.put(T.label, "knows");
+        edge.put("weight", 0.5);
+        return edge;
+    }
+}
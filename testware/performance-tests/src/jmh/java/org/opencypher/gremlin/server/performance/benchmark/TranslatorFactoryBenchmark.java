@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.performance.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares building a translator per request with obtaining one from a shared {@link TranslatorFactory},
+ * under concurrent load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(16)
+public class TranslatorFactoryBenchmark {
+
+    private static final String DEFINITION = "gremlin+cfog_server_extensions";
+
+    private final CypherAst ast = CypherAst.parse("MATCH (n:person)-[r:knows]->(m) WHERE n.age > 30 RETURN m.name");
+    private final TranslatorFactory<String, ?> factory = TranslatorFactory.gremlinGroovy(DEFINITION);
+
+    @Benchmark
+    public String builderPerRequest() {
+        return ast.buildTranslation(Translator.builder().gremlinGroovy().build(DEFINITION));
+    }
+
+    @Benchmark
+    public String factory() {
+        return ast.buildTranslation(factory.get());
+    }
+}
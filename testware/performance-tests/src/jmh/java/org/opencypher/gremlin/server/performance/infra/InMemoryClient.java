@@ -15,9 +15,11 @@
  */
 package org.opencypher.gremlin.server.performance.infra;
 
+import java.util.Map;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.opencypher.gremlin.client.CypherGremlinClient;
+import org.opencypher.gremlin.traversal.PreparedTraversalCache;
 import org.openjdk.jmh.infra.Blackhole;
 
 public class InMemoryClient implements CypherClient {
@@ -26,9 +28,13 @@ public class InMemoryClient implements CypherClient {
     private final CypherGremlinClient client;
 
     public InMemoryClient(Blackhole blackhole) {
+        this(blackhole, new PreparedTraversalCache(0));
+    }
+
+    public InMemoryClient(Blackhole blackhole, PreparedTraversalCache preparedTraversals) {
         this.blackhole = blackhole;
         GraphTraversalSource traversal = TinkerGraph.open().traversal();
-        client = CypherGremlinClient.inMemory(traversal);
+        client = CypherGremlinClient.inMemory(traversal, preparedTraversals);
     }
 
     @Override
@@ -36,6 +42,10 @@ public class InMemoryClient implements CypherClient {
         client.submit(cypher).forEach(blackhole::consume);
     }
 
+    public void run(String cypher, Map<String, ?> parameters) {
+        client.submit(cypher, parameters).forEach(blackhole::consume);
+    }
+
     @Override
     public void close() {
     }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.traversal;
+
+import static java.lang.String.format;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
+import org.opencypher.gremlin.translation.Tokens;
+import org.opencypher.gremlin.translation.exception.TypeException;
+
+/**
+ * Cypher arithmetic operators with separate integer and floating point paths.
+ * Integer arithmetic fails on overflow and division by zero, as in Cypher.
+ */
+final class Arithmetic {
+    private Arithmetic() {
+    }
+
+    static LongBinaryOperator longOperator(String operator) {
+        switch (operator) {
+            case "+":
+                return Math::addExact;
+            case "-":
+                return Math::subtractExact;
+            case "*":
+                return Math::multiplyExact;
+            case "/":
+                return Arithmetic::divide;
+            case "%":
+                return Arithmetic::modulo;
+            default:
+                throw new IllegalArgumentException("Unknown integer operator: " + operator);
+        }
+    }
+
+    static DoubleBinaryOperator doubleOperator(String operator) {
+        switch (operator) {
+            case "+":
+                return (a, b) -> a + b;
+            case "-":
+                return (a, b) -> a - b;
+            case "*":
+                return (a, b) -> a * b;
+            case "/":
+                return (a, b) -> a / b;
+            case "%":
+                return (a, b) -> a % b;
+            case "^":
+                return Math::pow;
+            default:
+                throw new IllegalArgumentException("Unknown operator: " + operator);
+        }
+    }
+
+    /**
+     * Applies operator to numbers, choosing the integer path when both operands are integers.
+     */
+    static Object apply(String operator, LongBinaryOperator integral, DoubleBinaryOperator floating, Object a, Object b) {
+        if (isNull(a) || isNull(b)) {
+            return Tokens.NULL;
+        }
+        Number x = toNumber(operator, a);
+        Number y = toNumber(operator, b);
+        if (integral != null && isIntegral(x) && isIntegral(y)) {
+            return integral.applyAsLong(x.longValue(), y.longValue());
+        }
+        return floating.applyAsDouble(x.doubleValue(), y.doubleValue());
+    }
+
+    static boolean isIntegral(Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+    }
+
+    static boolean isNull(Object value) {
+        return value == null || Tokens.NULL.equals(value);
+    }
+
+    static Number toNumber(String operator, Object value) {
+        if (!(value instanceof Number)) {
+            throw new TypeException(format("Expected a Number value for %s, but got: %s(%s)",
+                operator, value.getClass().getSimpleName(), value));
+        }
+        return (Number) value;
+    }
+
+    private static long divide(long a, long b) {
+        if (b == 0) {
+            throw new ArithmeticException("/ by zero");
+        }
+        return a / b;
+    }
+
+    private static long modulo(long a, long b) {
+        if (b == 0) {
+            throw new ArithmeticException("/ by zero");
+        }
+        return a % b;
+    }
+}
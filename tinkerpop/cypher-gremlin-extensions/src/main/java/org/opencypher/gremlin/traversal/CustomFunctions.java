@@ -27,9 +27,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Property;
@@ -40,110 +42,119 @@ import org.opencypher.gremlin.translation.exception.TypeException;
 
 @SuppressWarnings({"unchecked", "WeakerAccess", "ArraysAsListWithZeroOrOneArgument"})
 public final class CustomFunctions {
+    private static final int SCALAR_EXPRESSIONS_LIMIT = 1024;
+    private static final Map<String, ScalarExpression> SCALAR_EXPRESSIONS = new ConcurrentHashMap<>();
+
     private CustomFunctions() {
     }
 
     public static Function<Traverser, Object> cypherToString() {
-        return traverser -> {
-            Object arg = tokenToNull(traverser.get());
-            boolean valid = arg == null ||
-                arg instanceof Boolean ||
-                arg instanceof Number ||
-                arg instanceof String;
-            if (!valid) {
-                String className = arg.getClass().getName();
-                throw new TypeException("Cannot convert " + className + " to string");
-            }
+        return traverser -> toCypherString(traverser.get());
+    }
 
-            return Optional.ofNullable(arg)
-                .map(String::valueOf)
-                .orElse(Tokens.NULL);
-        };
+    static Object toCypherString(Object value) {
+        if (Arithmetic.isNull(value)) {
+            return Tokens.NULL;
+        }
+        if (value instanceof String) {
+            return value;
+        }
+        if (value instanceof Boolean || value instanceof Number) {
+            return value.toString();
+        }
+        throw new TypeException("Cannot convert " + value.getClass().getName() + " to string");
     }
 
     public static Function<Traverser, Object> cypherToBoolean() {
-        return traverser -> {
-            Object arg = tokenToNull(traverser.get());
-            boolean valid = arg == null ||
-                arg instanceof Boolean ||
-                arg instanceof String;
-            if (!valid) {
-                String className = arg.getClass().getName();
-                throw new TypeException("Cannot convert " + className + " to boolean");
-            }
+        return traverser -> toCypherBoolean(traverser.get());
+    }
 
-            return Optional.ofNullable(arg)
-                .map(String::valueOf)
-                .map(v -> {
-                    switch (v.toLowerCase()) {
-                        case "true":
-                            return true;
-                        case "false":
-                            return false;
-                        default:
-                            return Tokens.NULL;
-                    }
-                })
-                .orElse(Tokens.NULL);
-        };
+    static Object toCypherBoolean(Object value) {
+        if (Arithmetic.isNull(value)) {
+            return Tokens.NULL;
+        }
+        if (value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof String) {
+            String s = (String) value;
+            if ("true".equalsIgnoreCase(s)) {
+                return true;
+            }
+            if ("false".equalsIgnoreCase(s)) {
+                return false;
+            }
+            return Tokens.NULL;
+        }
+        throw new TypeException("Cannot convert " + value.getClass().getName() + " to boolean");
     }
 
     public static Function<Traverser, Object> cypherToInteger() {
-        return traverser -> {
-            Object arg = tokenToNull(traverser.get());
-            boolean valid = arg == null ||
-                arg instanceof Number ||
-                arg instanceof String;
-            if (!valid) {
-                String className = arg.getClass().getName();
-                throw new TypeException("Cannot convert " + className + " to integer");
-            }
+        return traverser -> toCypherInteger(traverser.get());
+    }
 
-            return nullToToken(
-                Optional.ofNullable(arg)
-                    .map(String::valueOf)
-                    .map(v -> {
-                        try {
-                            return Long.valueOf(v);
-                        } catch (NumberFormatException e1) {
-                            try {
-                                return Double.valueOf(v).longValue();
-                            } catch (NumberFormatException e2) {
-                                return null;
-                            }
-                        }
-                    })
-                    .orElse(null));
-        };
+    static Object toCypherInteger(Object value) {
+        if (Arithmetic.isNull(value)) {
+            return Tokens.NULL;
+        }
+        if (value instanceof Long) {
+            return value;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof String) {
+            String s = (String) value;
+            try {
+                return Long.parseLong(s);
+            } catch (NumberFormatException e1) {
+                try {
+                    return (long) Double.parseDouble(s);
+                } catch (NumberFormatException e2) {
+                    return Tokens.NULL;
+                }
+            }
+        }
+        throw new TypeException("Cannot convert " + value.getClass().getName() + " to integer");
     }
 
     public static Function<Traverser, Object> cypherToFloat() {
-        return traverser -> {
-            Object arg = tokenToNull(traverser.get());
-            boolean valid = arg == null ||
-                arg instanceof Number ||
-                arg instanceof String;
-            if (!valid) {
-                String className = arg.getClass().getName();
-                throw new TypeException("Cannot convert " + className + " to float");
-            }
+        return traverser -> toCypherFloat(traverser.get());
+    }
 
-            return nullToToken(
-                Optional.ofNullable(arg)
-                    .map(String::valueOf)
-                    .map(v -> {
-                        try {
-                            return Double.valueOf(v);
-                        } catch (NumberFormatException e) {
-                            return null;
-                        }
-                    })
-                    .orElse(null));
-        };
+    static Object toCypherFloat(Object value) {
+        if (Arithmetic.isNull(value)) {
+            return Tokens.NULL;
+        }
+        if (value instanceof Double) {
+            return value;
+        }
+        if (value instanceof Float) {
+            // widening would expose binary representation, e.g. 1.1f -> 1.100000023841858
+            return Double.parseDouble(value.toString());
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Double.parseDouble((String) value);
+            } catch (NumberFormatException e) {
+                return Tokens.NULL;
+            }
+        }
+        throw new TypeException("Cannot convert " + value.getClass().getName() + " to float");
     }
 
     public static Function<Traverser,Object> cypherRound() {
-        return cypherFunction(a -> (Math.round((Double) a.get(0))), Double.class);
+        return traverser -> round(traverser.get());
+    }
+
+    static Object round(Object value) {
+        if (value == Tokens.NULL) {
+            return Tokens.NULL;
+        }
+        return Math.round(argument(value, Double.class));
     }
 
     public static Function<Traverser, Object> cypherProperties() {
@@ -320,6 +331,65 @@ public final class CustomFunctions {
         };
     }
 
+    public static BiFunction<Object, Object, Object> cypherApproxPercentileReducer(double accuracy) {
+        return (accumulator, value) -> {
+            QuantileSketch sketch = accumulator instanceof QuantileSketch ? (QuantileSketch) accumulator : new QuantileSketch(accuracy);
+            if (value instanceof QuantileSketch) {
+                sketch.merge((QuantileSketch) value);
+            } else if (value != null && !Tokens.NULL.equals(value)) {
+                if (!(value instanceof Number)) {
+                    throw new IllegalArgumentException("Percentile function can only handle numerical values");
+                }
+                sketch.add((Number) value);
+            }
+            return sketch;
+        };
+    }
+
+    public static Function<Traverser, Object> cypherApproxPercentileCont() {
+        return sketchPercentileFunction(QuantileSketch::percentileCont);
+    }
+
+    public static Function<Traverser, Object> cypherApproxPercentileDisc() {
+        return sketchPercentileFunction(QuantileSketch::percentileDisc);
+    }
+
+    private static Function<Traverser, Object> sketchPercentileFunction(BiFunction<QuantileSketch, Double, Number> percentileStrategy) {
+        return traverser -> {
+            List<?> args = (List<?>) traverser.get();
+
+            double percentile = ((Number) args.get(1)).doubleValue();
+            if (percentile < 0 || percentile > 1) {
+                throw new IllegalArgumentException("Number out of range: " + percentile);
+            }
+
+            Object sketch = args.get(0);
+            if (!(sketch instanceof QuantileSketch) || ((QuantileSketch) sketch).count() == 0) {
+                return Tokens.NULL;
+            }
+            return percentileStrategy.apply((QuantileSketch) sketch, percentile);
+        };
+    }
+
+    public static BiFunction<Object, Object, Object> cypherApproxCountDistinctReducer(int precision) {
+        return (accumulator, value) -> {
+            HyperLogLog sketch = accumulator instanceof HyperLogLog ? (HyperLogLog) accumulator : new HyperLogLog(precision);
+            if (value instanceof HyperLogLog) {
+                sketch.merge((HyperLogLog) value);
+            } else if (value != null && !Tokens.NULL.equals(value)) {
+                sketch.add(value);
+            }
+            return sketch;
+        };
+    }
+
+    public static Function<Traverser, Object> cypherApproxCountDistinct() {
+        return traverser -> {
+            Object sketch = traverser.get();
+            return sketch instanceof HyperLogLog ? ((HyperLogLog) sketch).estimate() : 0L;
+        };
+    }
+
     private static <T> T percentileNearest(List<T> sorted, double percentile) {
         int size = sorted.size();
         int index = (int) Math.ceil(percentile * size) - 1;
@@ -338,43 +408,83 @@ public final class CustomFunctions {
     public static Function<Traverser, Object> cypherPlus() {
         return traverser -> {
             List<?> args = (List<?>) traverser.get();
-            Object a = args.get(0);
-            Object b = args.get(1);
+            return plus(args.get(0), args.get(1));
+        };
+    }
 
-            if (a == Tokens.NULL || b == Tokens.NULL) {
-                return Tokens.NULL;
+    static Object plus(Object a, Object b) {
+        if (a == Tokens.NULL || b == Tokens.NULL) {
+            return Tokens.NULL;
+        }
+
+        if (a instanceof List || b instanceof List) {
+            List<Object> objects = new ArrayList<>();
+            if (a instanceof List) {
+                objects.addAll((List<?>) a);
+            } else {
+                objects.add(a);
             }
+            if (b instanceof List) {
+                objects.addAll((List<?>) b);
+            } else {
+                objects.add(b);
+            }
+            return objects;
+        }
 
-            if (a instanceof List || b instanceof List) {
-                List<Object> objects = new ArrayList<>();
-                if (a instanceof List) {
-                    objects.addAll((List<?>) a);
-                } else {
-                    objects.add(a);
-                }
-                if (b instanceof List) {
-                    objects.addAll((List<?>) b);
-                } else {
-                    objects.add(b);
-                }
-                return objects;
+        if (!(a instanceof String || a instanceof Number) ||
+            !(b instanceof String || b instanceof Number)) {
+            throw new TypeException("Illegal use of plus operator");
+        }
+
+        if (a instanceof Number && b instanceof Number) {
+            if (a instanceof Double || b instanceof Double ||
+                a instanceof Float || b instanceof Float) {
+                return ((Number) a).doubleValue() + ((Number) b).doubleValue();
+            } else {
+                return ((Number) a).longValue() + ((Number) b).longValue();
             }
+        } else {
+            return String.valueOf(a) + String.valueOf(b);
+        }
+    }
 
-            if (!(a instanceof String || a instanceof Number) ||
-                !(b instanceof String || b instanceof Number)) {
-                throw new TypeException("Illegal use of plus operator");
+    public static Function<Traverser, Object> cypherArithmetic(String operator) {
+        LongBinaryOperator integral = "^".equals(operator) ? null : Arithmetic.longOperator(operator);
+        DoubleBinaryOperator floating = Arithmetic.doubleOperator(operator);
+        return traverser -> {
+            List<?> args = (List<?>) traverser.get();
+            return Arithmetic.apply(operator, integral, floating, args.get(0), args.get(1));
+        };
+    }
+
+    public static Function<Traverser, Object> cypherLongArithmetic(String operator) {
+        LongBinaryOperator integral = Arithmetic.longOperator(operator);
+        return traverser -> {
+            List<?> args = (List<?>) traverser.get();
+            Object a = args.get(0);
+            Object b = args.get(1);
+            if (a == Tokens.NULL || b == Tokens.NULL) {
+                return Tokens.NULL;
             }
+            long x = Arithmetic.toNumber(operator, a).longValue();
+            long y = Arithmetic.toNumber(operator, b).longValue();
+            return integral.applyAsLong(x, y);
+        };
+    }
 
-            if (a instanceof Number && b instanceof Number) {
-                if (a instanceof Double || b instanceof Double ||
-                    a instanceof Float || b instanceof Float) {
-                    return ((Number) a).doubleValue() + ((Number) b).doubleValue();
-                } else {
-                    return ((Number) a).longValue() + ((Number) b).longValue();
-                }
-            } else {
-                return String.valueOf(a) + String.valueOf(b);
+    public static Function<Traverser, Object> cypherDoubleArithmetic(String operator) {
+        DoubleBinaryOperator floating = Arithmetic.doubleOperator(operator);
+        return traverser -> {
+            List<?> args = (List<?>) traverser.get();
+            Object a = args.get(0);
+            Object b = args.get(1);
+            if (a == Tokens.NULL || b == Tokens.NULL) {
+                return Tokens.NULL;
             }
+            double x = Arithmetic.toNumber(operator, a).doubleValue();
+            double y = Arithmetic.toNumber(operator, b).doubleValue();
+            return floating.applyAsDouble(x, y);
         };
     }
 
@@ -399,84 +509,137 @@ public final class CustomFunctions {
     public static Function<Traverser, Object> cypherSubstring() {
         return traverser -> {
             List<?> args = (List<?>) traverser.get();
-            Object a = args.get(0);
-            Object b = args.get(1);
-
-            if (a == Tokens.NULL) {
-                return Tokens.NULL;
-            } else if (!(a instanceof String) || (!(b instanceof Number))) {
-                throw new TypeException(format("Expected substring(String, Integer, [Integer]), but got: (%s, %s)",
-                    a, b));
-            } else if (args.size() == 3 && (!(args.get(2) instanceof Number))) {
-                throw new TypeException(format("Expected substring(String, Integer, [Integer]), but got: (%s, %s, %s)",
-                    a, b, args.get(2)));
-            } else if (args.size() == 3) {
-                String s = (String) a;
-                int endIndex = ((Number) b).intValue() + ((Number) args.get(2)).intValue();
-                endIndex = endIndex > s.length() ? s.length() : endIndex;
-                return s.substring(((Number) b).intValue(), endIndex);
-            } else {
-                return ((String) a).substring(((Number) b).intValue());
-            }
+            return args.size() == 3 ?
+                substring(args.get(0), args.get(1), args.get(2)) :
+                substring(args.get(0), args.get(1));
         };
     }
 
-    private static Function<Traverser, Object> cypherFunction(Function<List, Object> func, Class<?>... clazzes) {
-        return traverser -> {
-            List args = traverser.get() instanceof List ? ((List) traverser.get()) : asList(traverser.get());
-
-            for (int i = 0; i < clazzes.length; i++) {
-                if (args.get(i) == Tokens.NULL) {
-                    return Tokens.NULL;
-                }
-
-                if (!clazzes[i].isInstance(args.get(i))) {
-                    throw new TypeException(format("Expected a %s value for <function1>, but got: %s(%s)",
-                        clazzes[i].getSimpleName(),
-                        args.get(i).getClass().getSimpleName(),
-                        args.get(i)));
-                }
-            }
+    static Object substring(Object string, Object start) {
+        if (string == Tokens.NULL) {
+            return Tokens.NULL;
+        }
+        if (!(string instanceof String) || !(start instanceof Number)) {
+            throw new TypeException(format("Expected substring(String, Integer, [Integer]), but got: (%s, %s)",
+                string, start));
+        }
+        return ((String) string).substring(((Number) start).intValue());
+    }
 
-            return func.apply(args);
-        };
+    static Object substring(Object string, Object start, Object length) {
+        if (string == Tokens.NULL) {
+            return Tokens.NULL;
+        }
+        if (!(string instanceof String) || !(start instanceof Number)) {
+            throw new TypeException(format("Expected substring(String, Integer, [Integer]), but got: (%s, %s)",
+                string, start));
+        }
+        if (!(length instanceof Number)) {
+            throw new TypeException(format("Expected substring(String, Integer, [Integer]), but got: (%s, %s, %s)",
+                string, start, length));
+        }
+        String s = (String) string;
+        int beginIndex = ((Number) start).intValue();
+        int endIndex = Math.min(beginIndex + ((Number) length).intValue(), s.length());
+        return s.substring(beginIndex, endIndex);
     }
 
     public static Function<Traverser,Object> cypherTrim() {
-        return cypherFunction(a -> ((String) a.get(0)).trim(), String.class);
+        return traverser -> trim(traverser.get());
+    }
+
+    static Object trim(Object value) {
+        if (value == Tokens.NULL) {
+            return Tokens.NULL;
+        }
+        return argument(value, String.class).trim();
     }
 
     public static Function<Traverser, Object> cypherToUpper() {
-        return cypherFunction(a -> ((String) a.get(0)).toUpperCase(), String.class);
+        return traverser -> toUpper(traverser.get());
+    }
+
+    static Object toUpper(Object value) {
+        if (value == Tokens.NULL) {
+            return Tokens.NULL;
+        }
+        return argument(value, String.class).toUpperCase();
     }
 
     public static Function<Traverser, Object> cypherToLower() {
-        return cypherFunction(a -> ((String) a.get(0)).toLowerCase(), String.class);
+        return traverser -> toLower(traverser.get());
+    }
+
+    static Object toLower(Object value) {
+        if (value == Tokens.NULL) {
+            return Tokens.NULL;
+        }
+        return argument(value, String.class).toLowerCase();
     }
 
     public static Function<Traverser, Object> cypherSplit() {
-        return cypherFunction(a -> asList(((String) a.get(0)).split((String) a.get(1))), String.class, String.class);
+        return traverser -> {
+            List<?> args = (List<?>) traverser.get();
+            return split(args.get(0), args.get(1));
+        };
     }
 
-    public static Function<Traverser, Object> cypherReplace() {
-        return cypherFunction(a ->
-                ((String) a.get(0)).replace((String) a.get(1), (String) a.get(2)),
-            String.class, String.class, String.class);
+    static Object split(Object string, Object delimiter) {
+        if (string == Tokens.NULL) {
+            return Tokens.NULL;
+        }
+        String s = argument(string, String.class);
+        if (delimiter == Tokens.NULL) {
+            return Tokens.NULL;
+        }
+        return asList(s.split(argument(delimiter, String.class)));
     }
 
-    public static Function<Traverser, Object> cypherException() {
+    public static Function<Traverser, Object> cypherReplace() {
         return traverser -> {
-            String message = CypherExceptions.messageByName(traverser.get());
-            throw new ConstraintException(message);
+            List<?> args = (List<?>) traverser.get();
+            return replace(args.get(0), args.get(1), args.get(2));
         };
     }
 
-    private static Object tokenToNull(Object maybeNull) {
-        return Tokens.NULL.equals(maybeNull) ? null : maybeNull;
+    static Object replace(Object string, Object search, Object replacement) {
+        if (string == Tokens.NULL) {
+            return Tokens.NULL;
+        }
+        String s = argument(string, String.class);
+        if (search == Tokens.NULL) {
+            return Tokens.NULL;
+        }
+        String target = argument(search, String.class);
+        if (replacement == Tokens.NULL) {
+            return Tokens.NULL;
+        }
+        return s.replace(target, argument(replacement, String.class));
+    }
+
+    private static <T> T argument(Object value, Class<T> clazz) {
+        if (!clazz.isInstance(value)) {
+            throw new TypeException(format("Expected a %s value for <function1>, but got: %s(%s)",
+                clazz.getSimpleName(),
+                value.getClass().getSimpleName(),
+                value));
+        }
+        return (T) value;
+    }
+
+    public static Function<Traverser, Object> cypherScalar(String program) {
+        if (SCALAR_EXPRESSIONS.size() >= SCALAR_EXPRESSIONS_LIMIT) {
+            SCALAR_EXPRESSIONS.clear();
+        }
+        ScalarExpression expression = SCALAR_EXPRESSIONS.computeIfAbsent(program, ScalarExpression::parse);
+        return traverser -> expression.evaluate((List<?>) traverser.get());
     }
 
-    private static Object nullToToken(Object maybeNull) {
-        return maybeNull == null ? Tokens.NULL : maybeNull;
+    public static Function<Traverser, Object> cypherException() {
+        return traverser -> {
+            String message = CypherExceptions.messageByName(traverser.get());
+            throw new ConstraintException(message);
+        };
     }
 
     private static <T> T cast(Object o, Class<T> clazz) {
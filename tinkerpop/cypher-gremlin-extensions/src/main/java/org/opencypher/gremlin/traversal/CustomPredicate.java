@@ -16,9 +16,11 @@
 package org.opencypher.gremlin.traversal;
 
 import java.util.function.BiPredicate;
+import java.util.regex.Pattern;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.opencypher.gremlin.translation.Tokens;
 
 
 public enum CustomPredicate implements BiPredicate<Object, Object> {
@@ -46,7 +48,10 @@ public enum CustomPredicate implements BiPredicate<Object, Object> {
     cypherRegex {
         @Override
         public boolean test(Object a, Object b) {
-            return ((String) a).matches((String) b);
+            if (!isString(a) || !isString(b)) {
+                return false;
+            }
+            return RegexPatternCache.compile((String) b).matcher((String) a).matches();
         }
     };
 
@@ -65,4 +70,40 @@ public enum CustomPredicate implements BiPredicate<Object, Object> {
     public static P<Object> cypherRegex(Object value) {
         return new P<>(CustomPredicate.cypherRegex, value);
     }
+
+    /**
+     * Same as {@link #cypherRegex(Object)}, but keeps the compiled pattern in the predicate instance.
+     * Intended for in-process traversals, as the predicate cannot be serialized.
+     */
+    public static P<Object> cypherCompiledRegex(Object value) {
+        return new CompiledRegex(value);
+    }
+
+    private static boolean isString(Object value) {
+        return value instanceof String && !Tokens.NULL.equals(value);
+    }
+
+    private static final class CompiledRegex extends P<Object> {
+        private Pattern pattern;
+
+        private CompiledRegex(Object value) {
+            super(CustomPredicate.cypherRegex, value);
+        }
+
+        @Override
+        public boolean test(Object testValue) {
+            Object regex = getValue();
+            if (!isString(testValue) || !isString(regex)) {
+                return false;
+            }
+
+            // value may be replaced, e.g. by `where` steps
+            Pattern compiled = pattern;
+            if (compiled == null || !compiled.pattern().equals(regex)) {
+                compiled = RegexPatternCache.compile((String) regex);
+                pattern = compiled;
+            }
+            return compiled.matcher((String) testValue).matches();
+        }
+    }
 }
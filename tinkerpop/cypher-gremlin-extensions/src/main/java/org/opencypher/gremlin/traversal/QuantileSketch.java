@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.traversal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Mergeable quantile sketch with bounded memory, based on KLL compactors.
+ * <p>
+ * Values are kept in levels, where each value at level {@code h} represents {@code 2^h} input values.
+ * When the sketch is full, a level is sorted and every other value is promoted to the next level.
+ * Up to {@code ~2/accuracy} values are retained exactly; beyond that, rank error is bounded by {@code accuracy}
+ * with high probability.
+ */
+public final class QuantileSketch {
+    public static final double DEFAULT_ACCURACY = 0.01;
+
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+    private static final int MIN_LEVEL_CAPACITY = 2;
+    private static final int MIN_K = 8;
+
+    private final int k;
+    private final List<Level> levels = new ArrayList<>();
+    private long count;
+    private int retained;
+    private boolean integral = true;
+    private boolean promoteOdd;
+
+    public QuantileSketch(double accuracy) {
+        if (!(accuracy > 0 && accuracy < 1)) {
+            throw new IllegalArgumentException("Accuracy must be between 0 and 1: " + accuracy);
+        }
+        this.k = Math.max(MIN_K, (int) Math.ceil(2 / accuracy));
+        levels.add(new Level());
+    }
+
+    public void add(Number value) {
+        integral &= Arithmetic.isIntegral(value);
+        levels.get(0).add(value.doubleValue());
+        count++;
+        retained++;
+        while (retained > capacity()) {
+            compact();
+        }
+    }
+
+    public void merge(QuantileSketch other) {
+        while (levels.size() < other.levels.size()) {
+            levels.add(new Level());
+        }
+        for (int h = 0; h < other.levels.size(); h++) {
+            Level source = other.levels.get(h);
+            Level target = levels.get(h);
+            for (int i = 0; i < source.size; i++) {
+                target.add(source.items[i]);
+            }
+        }
+        count += other.count;
+        retained += other.retained;
+        integral &= other.integral;
+        while (retained > capacity()) {
+            compact();
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Nearest-rank percentile, as {@code percentileDisc}.
+     */
+    public Number percentileDisc(double percentile) {
+        long rank = Math.max((long) Math.ceil(percentile * count) - 1, 0);
+        return typed(ranked().valueAt(rank));
+    }
+
+    /**
+     * Linearly interpolated percentile, as {@code percentileCont}.
+     */
+    public Number percentileCont(double percentile) {
+        Ranked ranked = ranked();
+        double position = percentile * (count - 1);
+        long low = (long) Math.floor(position);
+        long high = (long) Math.ceil(position);
+        if (low == high) {
+            return typed(ranked.valueAt(low));
+        }
+
+        double lowValue = ranked.valueAt(low);
+        double highValue = ranked.valueAt(high);
+        return (highValue - lowValue) * (position - low) + lowValue;
+    }
+
+    private Number typed(double value) {
+        return integral ? (Number) (long) value : (Number) value;
+    }
+
+    private int capacity() {
+        int capacity = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            capacity += levelCapacity(h);
+        }
+        return capacity;
+    }
+
+    private int levelCapacity(int h) {
+        int depth = levels.size() - h - 1;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    private void compact() {
+        for (int h = 0; h < levels.size(); h++) {
+            Level level = levels.get(h);
+            if (level.size < levelCapacity(h)) {
+                continue;
+            }
+            if (h + 1 == levels.size()) {
+                levels.add(new Level());
+            }
+            Level next = levels.get(h + 1);
+
+            Arrays.sort(level.items, 0, level.size);
+            int paired = level.size - level.size % 2;
+            int offset = promoteOdd ? 1 : 0;
+            promoteOdd = !promoteOdd;
+            for (int i = offset; i < paired; i += 2) {
+                next.add(level.items[i]);
+            }
+            if (paired < level.size) {
+                level.items[0] = level.items[level.size - 1];
+            }
+            retained -= paired / 2;
+            level.size -= paired;
+            return;
+        }
+    }
+
+    private Ranked ranked() {
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        Integer[] order = new Integer[retained];
+        int n = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            Level level = levels.get(h);
+            for (int i = 0; i < level.size; i++) {
+                values[n] = level.items[i];
+                weights[n] = 1L << h;
+                order[n] = n;
+                n++;
+            }
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        double[] sorted = new double[n];
+        long[] cumulative = new long[n];
+        long total = 0;
+        for (int i = 0; i < n; i++) {
+            sorted[i] = values[order[i]];
+            total += weights[order[i]];
+            cumulative[i] = total;
+        }
+        return new Ranked(sorted, cumulative);
+    }
+
+    private static final class Level {
+        private double[] items = new double[MIN_K];
+        private int size;
+
+        private void add(double value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+    }
+
+    private static final class Ranked {
+        private final double[] values;
+        private final long[] cumulativeWeights;
+
+        private Ranked(double[] values, long[] cumulativeWeights) {
+            this.values = values;
+            this.cumulativeWeights = cumulativeWeights;
+        }
+
+        /**
+         * @param rank zero-based rank in the input
+         * @return value at rank
+         */
+        private double valueAt(long rank) {
+            int index = Arrays.binarySearch(cumulativeWeights, rank + 1);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return values[Math.min(index, values.length - 1)];
+        }
+    }
+}
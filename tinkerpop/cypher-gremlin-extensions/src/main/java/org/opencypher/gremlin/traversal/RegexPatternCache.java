@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.traversal;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded, concurrent cache of compiled regular expressions used by {@link CustomPredicate#cypherRegex}.
+ */
+public final class RegexPatternCache {
+    static final int MAXIMUM_SIZE = 1024;
+
+    private static final ConcurrentHashMap<String, Pattern> patterns = new ConcurrentHashMap<>();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private RegexPatternCache() {
+    }
+
+    /**
+     * Returns compiled pattern for regular expression, compiling it on cache miss.
+     *
+     * @param regex regular expression
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the expression's syntax is invalid
+     */
+    public static Pattern compile(String regex) {
+        Pattern pattern = patterns.get(regex);
+        if (pattern != null) {
+            hits.increment();
+            return pattern;
+        }
+
+        misses.increment();
+        pattern = Pattern.compile(regex);
+        if (patterns.size() >= MAXIMUM_SIZE) {
+            Iterator<String> evicted = patterns.keySet().iterator();
+            if (evicted.hasNext()) {
+                patterns.remove(evicted.next());
+            }
+        }
+        patterns.put(regex, pattern);
+        return pattern;
+    }
+
+    public static int size() {
+        return patterns.size();
+    }
+
+    public static long hitCount() {
+        return hits.sum();
+    }
+
+    public static long missCount() {
+        return misses.sum();
+    }
+
+    public static double hitRatio() {
+        long hitCount = hitCount();
+        long total = hitCount + missCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public static void clear() {
+        patterns.clear();
+        hits.reset();
+        misses.reset();
+    }
+}
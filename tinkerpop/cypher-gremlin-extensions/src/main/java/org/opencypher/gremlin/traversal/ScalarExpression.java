@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.traversal;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.LongBinaryOperator;
+import java.util.function.UnaryOperator;
+import org.opencypher.gremlin.translation.Tokens;
+import org.opencypher.gremlin.translation.exception.TypeException;
+
+/**
+ * Interpreter for scalar Cypher expressions compiled by the translator into a single step.
+ * <p>
+ * A program is written in prefix notation, e.g. {@code and(gt(add(mul($0,$1),$2),$3),startsWith(toLower($4),$5))},
+ * where {@code $n} refers to the n-th element of the list the step is applied to.
+ * Values follow the traversal conventions: {@link Tokens#NULL} stands for Cypher {@code null}.
+ */
+public final class ScalarExpression {
+    private final String program;
+    private final Node root;
+
+    private ScalarExpression(String program, Node root) {
+        this.program = program;
+        this.root = root;
+    }
+
+    public static ScalarExpression parse(String program) {
+        Parser parser = new Parser(program);
+        Node root = parser.expression();
+        parser.expectEnd();
+        return new ScalarExpression(program, root);
+    }
+
+    public Object evaluate(List<?> arguments) {
+        return root.evaluate(arguments);
+    }
+
+    public String getProgram() {
+        return program;
+    }
+
+    @Override
+    public String toString() {
+        return program;
+    }
+
+    @FunctionalInterface
+    private interface Node {
+        Object evaluate(List<?> arguments);
+    }
+
+    private static final class Parser {
+        private final String program;
+        private int position;
+
+        private Parser(String program) {
+            this.program = program;
+        }
+
+        private Node expression() {
+            if (peek() == '$') {
+                position++;
+                int start = position;
+                while (position < program.length() && Character.isDigit(program.charAt(position))) {
+                    position++;
+                }
+                if (start == position) {
+                    throw error("argument index expected");
+                }
+                int index = Integer.parseInt(program.substring(start, position));
+                return arguments -> arguments.get(index);
+            }
+
+            int start = position;
+            while (position < program.length() && Character.isLetter(program.charAt(position))) {
+                position++;
+            }
+            if (start == position) {
+                throw error("operator expected");
+            }
+            String name = program.substring(start, position);
+
+            expect('(');
+            List<Node> operands = new ArrayList<>();
+            if (peek() != ')') {
+                operands.add(expression());
+                while (peek() == ',') {
+                    position++;
+                    operands.add(expression());
+                }
+            }
+            expect(')');
+
+            return operator(name, operands);
+        }
+
+        private Node operator(String name, List<Node> operands) {
+            switch (name) {
+                case "and":
+                    return and(operands);
+                case "or":
+                    return or(operands);
+                case "xor":
+                    return binary(operands, (a, b) -> isNull(a) || isNull(b) ? Tokens.NULL : toBoolean(a) ^ toBoolean(b));
+                case "not":
+                    return unary(operands, a -> isNull(a) ? Tokens.NULL : !toBoolean(a));
+                case "isNull":
+                    return unary(operands, ScalarExpression::isNull);
+                case "isNotNull":
+                    return unary(operands, a -> !isNull(a));
+                case "eq":
+                    return binary(operands, ScalarExpression::equal);
+                case "neq":
+                    return binary(operands, (a, b) -> not(equal(a, b)));
+                case "lt":
+                    return comparison(operands, c -> c < 0);
+                case "lte":
+                    return comparison(operands, c -> c <= 0);
+                case "gt":
+                    return comparison(operands, c -> c > 0);
+                case "gte":
+                    return comparison(operands, c -> c >= 0);
+                case "startsWith":
+                    return strings(operands, String::startsWith);
+                case "endsWith":
+                    return strings(operands, String::endsWith);
+                case "contains":
+                    return strings(operands, String::contains);
+                case "add":
+                    return binary(operands, CustomFunctions::plus);
+                case "sub":
+                    return arithmetic(operands, "-");
+                case "mul":
+                    return arithmetic(operands, "*");
+                case "div":
+                    return arithmetic(operands, "/");
+                case "mod":
+                    return arithmetic(operands, "%");
+                case "pow":
+                    return arithmetic(operands, "^");
+                case "abs":
+                    return unary(operands, a -> isNull(a) ? Tokens.NULL : abs(a));
+                case "sqrt":
+                    return unary(operands, a -> isNull(a) ? Tokens.NULL : Math.sqrt(toNumber(a).doubleValue()));
+                case "coalesce":
+                    return coalesce(operands);
+                case "size":
+                    return unary(operands, a -> isNull(a) ? Tokens.NULL : size(a));
+                case "toLower":
+                    return unary(operands, a -> isNull(a) ? Tokens.NULL : toText(a, "toLower").toLowerCase());
+                case "toUpper":
+                    return unary(operands, a -> isNull(a) ? Tokens.NULL : toText(a, "toUpper").toUpperCase());
+                case "trim":
+                    return unary(operands, a -> isNull(a) ? Tokens.NULL : toText(a, "trim").trim());
+                case "toString":
+                    return unary(operands, CustomFunctions::toCypherString);
+                case "toBoolean":
+                    return unary(operands, CustomFunctions::toCypherBoolean);
+                case "toInteger":
+                    return unary(operands, CustomFunctions::toCypherInteger);
+                case "toFloat":
+                    return unary(operands, CustomFunctions::toCypherFloat);
+                default:
+                    throw new IllegalArgumentException(format("Unknown operator '%s' in %s", name, program));
+            }
+        }
+
+        private Node unary(List<Node> operands, UnaryOperator<Object> operator) {
+            arity(operands, 1);
+            Node operand = operands.get(0);
+            return arguments -> operator.apply(operand.evaluate(arguments));
+        }
+
+        private Node binary(List<Node> operands, BinaryOperator<Object> operator) {
+            arity(operands, 2);
+            Node lhs = operands.get(0);
+            Node rhs = operands.get(1);
+            return arguments -> operator.apply(lhs.evaluate(arguments), rhs.evaluate(arguments));
+        }
+
+        private Node comparison(List<Node> operands, IntPredicate test) {
+            return binary(operands, (a, b) -> {
+                if (isNaN(a) && b instanceof Number || isNaN(b) && a instanceof Number) {
+                    return false;
+                }
+                Integer result = compare(a, b);
+                return result == null ? Tokens.NULL : test.test(result);
+            });
+        }
+
+        private Node strings(List<Node> operands, StringPredicate test) {
+            return binary(operands, (a, b) -> {
+                if (isNull(a) || isNull(b) || !(a instanceof String) || !(b instanceof String)) {
+                    return Tokens.NULL;
+                }
+                return test.test((String) a, (String) b);
+            });
+        }
+
+        private Node arithmetic(List<Node> operands, String operator) {
+            LongBinaryOperator integral = "^".equals(operator) ? null : Arithmetic.longOperator(operator);
+            DoubleBinaryOperator floating = Arithmetic.doubleOperator(operator);
+            return binary(operands, (a, b) -> Arithmetic.apply(operator, integral, floating, a, b));
+        }
+
+        private Node and(List<Node> operands) {
+            return arguments -> {
+                boolean unknown = false;
+                for (Node operand : operands) {
+                    Object value = operand.evaluate(arguments);
+                    if (isNull(value)) {
+                        unknown = true;
+                    } else if (!toBoolean(value)) {
+                        return false;
+                    }
+                }
+                return unknown ? Tokens.NULL : true;
+            };
+        }
+
+        private Node or(List<Node> operands) {
+            return arguments -> {
+                boolean unknown = false;
+                for (Node operand : operands) {
+                    Object value = operand.evaluate(arguments);
+                    if (isNull(value)) {
+                        unknown = true;
+                    } else if (toBoolean(value)) {
+                        return true;
+                    }
+                }
+                return unknown ? Tokens.NULL : false;
+            };
+        }
+
+        private Node coalesce(List<Node> operands) {
+            return arguments -> {
+                for (Node operand : operands) {
+                    Object value = operand.evaluate(arguments);
+                    if (!isNull(value)) {
+                        return value;
+                    }
+                }
+                return Tokens.NULL;
+            };
+        }
+
+        private void arity(List<Node> operands, int expected) {
+            if (operands.size() != expected) {
+                throw error(format("%d operand(s) expected, but got %d", expected, operands.size()));
+            }
+        }
+
+        private char peek() {
+            return position < program.length() ? program.charAt(position) : 0;
+        }
+
+        private void expect(char c) {
+            if (peek() != c) {
+                throw error("'" + c + "' expected");
+            }
+            position++;
+        }
+
+        private void expectEnd() {
+            if (position != program.length()) {
+                throw error("end of expression expected");
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(format("Invalid expression %s at %d: %s", program, position, message));
+        }
+    }
+
+    @FunctionalInterface
+    private interface StringPredicate {
+        boolean test(String a, String b);
+    }
+
+    private static boolean isNull(Object value) {
+        return Arithmetic.isNull(value);
+    }
+
+    private static Object not(Object value) {
+        return isNull(value) ? Tokens.NULL : !(Boolean) value;
+    }
+
+    private static boolean toBoolean(Object value) {
+        if (!(value instanceof Boolean)) {
+            throw new TypeException(format("Expected a Boolean value, but got: %s(%s)",
+                value.getClass().getSimpleName(), value));
+        }
+        return (Boolean) value;
+    }
+
+    private static Number toNumber(Object value) {
+        if (!(value instanceof Number)) {
+            throw new TypeException(format("Expected a Number value, but got: %s(%s)",
+                value.getClass().getSimpleName(), value));
+        }
+        return (Number) value;
+    }
+
+    private static String toText(Object value, String function) {
+        if (!(value instanceof String)) {
+            throw new TypeException(format("Expected a String value for %s, but got: %s(%s)",
+                function, value.getClass().getSimpleName(), value));
+        }
+        return (String) value;
+    }
+
+    private static boolean isIntegral(Number number) {
+        return Arithmetic.isIntegral(number);
+    }
+
+    private static Object abs(Object value) {
+        Number number = toNumber(value);
+        return isIntegral(number) ? (Object) Math.abs(number.longValue()) : (Object) Math.abs(number.doubleValue());
+    }
+
+    private static Object size(Object value) {
+        if (value instanceof String) {
+            return (long) ((String) value).length();
+        }
+        if (value instanceof Collection) {
+            return (long) ((Collection<?>) value).size();
+        }
+        throw new TypeException(format("Expected a String or List value for size, but got: %s(%s)",
+            value.getClass().getSimpleName(), value));
+    }
+
+    private static Object equal(Object a, Object b) {
+        if (isNull(a) || isNull(b)) {
+            return Tokens.NULL;
+        }
+        if (a instanceof Number && b instanceof Number) {
+            return equalNumbers((Number) a, (Number) b);
+        }
+        if (a instanceof List && b instanceof List) {
+            List<?> x = (List<?>) a;
+            List<?> y = (List<?>) b;
+            if (x.size() != y.size()) {
+                return false;
+            }
+            boolean unknown = false;
+            Iterator<?> i = x.iterator();
+            Iterator<?> j = y.iterator();
+            while (i.hasNext()) {
+                Object result = equal(i.next(), j.next());
+                if (isNull(result)) {
+                    unknown = true;
+                } else if (!(Boolean) result) {
+                    return false;
+                }
+            }
+            return unknown ? Tokens.NULL : true;
+        }
+        if (a instanceof Map && b instanceof Map) {
+            Map<?, ?> x = (Map<?, ?>) a;
+            Map<?, ?> y = (Map<?, ?>) b;
+            if (!x.keySet().equals(y.keySet())) {
+                return false;
+            }
+            boolean unknown = false;
+            for (Map.Entry<?, ?> entry : x.entrySet()) {
+                Object result = equal(entry.getValue(), y.get(entry.getKey()));
+                if (isNull(result)) {
+                    unknown = true;
+                } else if (!(Boolean) result) {
+                    return false;
+                }
+            }
+            return unknown ? Tokens.NULL : true;
+        }
+        return a.equals(b);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Integer compare(Object a, Object b) {
+        if (isNull(a) || isNull(b)) {
+            return null;
+        }
+        if (a instanceof Number && b instanceof Number) {
+            return compareNumbers((Number) a, (Number) b);
+        }
+        if (a instanceof String && b instanceof String || a instanceof Boolean && b instanceof Boolean) {
+            return ((Comparable<Object>) a).compareTo(b);
+        }
+        return null;
+    }
+
+    private static boolean isNaN(Object value) {
+        return (value instanceof Double || value instanceof Float) && Double.isNaN(((Number) value).doubleValue());
+    }
+
+    /**
+     * Primitive equality, so that {@code NaN} is not equal to itself, and {@code 0.0} is equal to {@code -0.0}.
+     */
+    private static boolean equalNumbers(Number a, Number b) {
+        if (isIntegral(a) && isIntegral(b)) {
+            return a.longValue() == b.longValue();
+        }
+        return a.doubleValue() == b.doubleValue();
+    }
+
+    /**
+     * Primitive ordering, so that {@code 0.0} and {@code -0.0} are equal.
+     * Comparisons with {@code NaN} are unordered, and are answered before ordering.
+     */
+    private static int compareNumbers(Number a, Number b) {
+        if (isIntegral(a) && isIntegral(b)) {
+            return Long.compare(a.longValue(), b.longValue());
+        }
+        double x = a.doubleValue();
+        double y = b.doubleValue();
+        return x < y ? -1 : (x > y ? 1 : 0);
+    }
+}
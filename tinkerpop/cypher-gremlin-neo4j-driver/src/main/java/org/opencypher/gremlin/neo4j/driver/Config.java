@@ -32,10 +32,14 @@ import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 public class Config {
     private final TranslatorFlavor flavor;
     private final boolean ignoreIds;
+    private final boolean compactResults;
+    private final int maxTransactionRetries;
 
     private Config(ConfigBuilder configBuilder) {
         flavor = configBuilder.flavor;
         ignoreIds = configBuilder.ignoreIds;
+        compactResults = configBuilder.compactResults;
+        maxTransactionRetries = configBuilder.maxTransactionRetries;
     }
 
     /**
@@ -66,6 +70,20 @@ public class Config {
         return ignoreIds;
     }
 
+    /**
+     * @return true if results are requested from Cypher plugin in compact encoding
+     */
+    public boolean isCompactResults() {
+        return compactResults;
+    }
+
+    /**
+     * @return maximum number of times a transaction function is retried on a transient failure
+     */
+    public int maxTransactionRetries() {
+        return maxTransactionRetries;
+    }
+
     /**
      * Return a {@link ConfigBuilder} instance.
      *
@@ -81,6 +99,8 @@ public class Config {
     public static class ConfigBuilder {
         private TranslatorFlavor flavor;
         private boolean ignoreIds = false;
+        private boolean compactResults = false;
+        private int maxTransactionRetries = 3;
 
         private ConfigBuilder() {
         }
@@ -117,6 +137,33 @@ public class Config {
             return this;
         }
 
+        /**
+         * Request results from Cypher plugin in compact encoding,
+         * with column names sent once per response instead of once per row.
+         * Not applicable when {@link #withTranslation() translation} is enabled.
+         *
+         * @return a {@link ConfigBuilder} instance
+         */
+        public ConfigBuilder withCompactResults() {
+            this.compactResults = true;
+            return this;
+        }
+
+        /**
+         * Retry transaction functions, such as {@link org.neo4j.driver.v1.Session#writeTransaction},
+         * on transient failures like concurrent modification conflicts.
+         *
+         * @param maxTransactionRetries maximum number of retries, {@code 3} by default
+         * @return a {@link ConfigBuilder} instance
+         */
+        public ConfigBuilder withMaxTransactionRetries(int maxTransactionRetries) {
+            if (maxTransactionRetries < 0) {
+                throw new IllegalArgumentException("Maximum number of transaction retries should not be negative");
+            }
+            this.maxTransactionRetries = maxTransactionRetries;
+            return this;
+        }
+
         /**
          * Create a config instance from this builder.
          *
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.neo4j.driver;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import org.neo4j.driver.v1.Statement;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.summary.ServerInfo;
+import org.opencypher.gremlin.client.CypherGremlinClient;
+
+/**
+ * A session that runs statements without blocking the caller.
+ * <p>
+ * Mirrors the asynchronous API of newer Neo4j drivers:
+ * statements are submitted with {@link CypherGremlinClient#submitReactive(String, Map)}
+ * and records are iterated with {@link GremlinStatementResultCursor}.
+ *
+ * @see GremlinDriver#asyncSession()
+ */
+public final class GremlinAsyncSession implements AutoCloseable {
+    private final ServerInfo serverInfo;
+    private final CypherGremlinClient client;
+    private final GremlinCypherValueConverter converter;
+    private boolean open = true;
+
+    GremlinAsyncSession(ServerInfo serverInfo, CypherGremlinClient client, GremlinCypherValueConverter converter) {
+        this.serverInfo = serverInfo;
+        this.client = client;
+        this.converter = converter;
+    }
+
+    /**
+     * Runs a statement asynchronously.
+     *
+     * @param statementTemplate text of a Cypher statement
+     * @return stage completed with a result cursor when the first results are available
+     */
+    public CompletionStage<GremlinStatementResultCursor> runAsync(String statementTemplate) {
+        return runAsync(statementTemplate, new HashMap<>());
+    }
+
+    /**
+     * Runs a statement asynchronously.
+     *
+     * @param statementTemplate text of a Cypher statement
+     * @param parameters        input parameters
+     * @return stage completed with a result cursor when the first results are available
+     */
+    public CompletionStage<GremlinStatementResultCursor> runAsync(String statementTemplate, Value parameters) {
+        return runAsync(statementTemplate, parameters.asMap());
+    }
+
+    /**
+     * Runs a statement asynchronously.
+     *
+     * @param statementTemplate   text of a Cypher statement
+     * @param statementParameters input parameters
+     * @return stage completed with a result cursor when the first results are available
+     */
+    public CompletionStage<GremlinStatementResultCursor> runAsync(String statementTemplate, Map<String, Object> statementParameters) {
+        return runAsync(new Statement(statementTemplate, statementParameters));
+    }
+
+    /**
+     * Runs a statement asynchronously.
+     * <p>
+     * The returned stage fails if the statement can not be translated or executed.
+     *
+     * @param statement a Cypher statement
+     * @return stage completed with a result cursor when the first results are available
+     */
+    public CompletionStage<GremlinStatementResultCursor> runAsync(Statement statement) {
+        HashMap<String, Object> serializableMap = new HashMap<>(statement.parameters().asMap());
+        GremlinStatementResultCursor cursor = new GremlinStatementResultCursor(statement, serverInfo,
+            client.submitReactive(statement.text(), serializableMap), converter);
+        return cursor.peekAsync().thenApply(first -> cursor);
+    }
+
+    /**
+     * @return true if this session has not been closed
+     */
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        open = false;
+        client.close();
+    }
+}
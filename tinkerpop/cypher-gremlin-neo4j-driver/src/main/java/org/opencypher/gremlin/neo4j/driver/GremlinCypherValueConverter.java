@@ -25,7 +25,6 @@ import static org.opencypher.gremlin.translation.ReturnProperties.isNode;
 import static org.opencypher.gremlin.translation.ReturnProperties.isPath;
 import static org.opencypher.gremlin.translation.ReturnProperties.isRelationship;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -34,7 +33,6 @@ import java.util.Set;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.neo4j.driver.internal.InternalNode;
 import org.neo4j.driver.internal.InternalPath;
-import org.neo4j.driver.internal.InternalRecord;
 import org.neo4j.driver.internal.InternalRelationship;
 import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Value;
@@ -49,18 +47,10 @@ class GremlinCypherValueConverter {
     }
 
     Record toRecord(Map<String, Object> map) {
-        List<String> keys = new ArrayList<>();
-        List<Value> values = new ArrayList<>();
-
-        for (Map.Entry<String, Object> entry : map.entrySet()) {
-            keys.add(entry.getKey());
-            values.add(toCypherValue(entry.getValue()));
-        }
-
-        return new InternalRecord(keys, values.toArray(new Value[values.size()]));
+        return new GremlinRecord(map, this);
     }
 
-    private Value toCypherValue(Object value) {
+    Value toCypherValue(Object value) {
         if (isNode(value)) {
             return toCypherNode((Map<?, ?>) value).asValue();
         } else if (isRelationship(value)) {
@@ -116,11 +106,12 @@ class GremlinCypherValueConverter {
 
     private Map<String, Value> toCypherPropertyMap(Map<?, ?> e) {
         Map<String, Value> properties = new HashMap<>();
-        e.entrySet().stream()
-            .filter((n) -> !ALL_PROPERTIES.contains(String.valueOf(n.getKey())))
-            .forEach((n) -> properties.put(
-                String.valueOf(n.getKey()),
-                toCypherValue(n.getValue())));
+        for (Map.Entry<?, ?> n : e.entrySet()) {
+            String key = String.valueOf(n.getKey());
+            if (!ALL_PROPERTIES.contains(key)) {
+                properties.put(key, toCypherValue(n.getValue()));
+            }
+        }
 
         return properties;
     }
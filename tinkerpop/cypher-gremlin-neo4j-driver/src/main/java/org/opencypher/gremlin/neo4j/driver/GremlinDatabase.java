@@ -23,6 +23,8 @@ import org.neo4j.driver.v1.Driver;
 
 /**
  * Creates {@link Driver drivers}, optionally letting you {@link #driver(URI, Config)} to configure them.
+ * <p>
+ * Created drivers implement {@link GremlinDriver}.
  */
 public class GremlinDatabase {
     /**
@@ -65,6 +67,17 @@ public class GremlinDatabase {
         return new GremlinGraphDriver(graphTraversalSource);
     }
 
+    /**
+     * Returns a driver for a Gremlin graph.
+     *
+     * @param graphTraversalSource Gremlin graph traversal source
+     * @param config               configuration
+     * @return driver
+     */
+    public static Driver driver(GraphTraversalSource graphTraversalSource, Config config) {
+        return new GremlinGraphDriver(graphTraversalSource, config);
+    }
+
     /**
      * Returns a driver for a Gremlin Server instance.
      *
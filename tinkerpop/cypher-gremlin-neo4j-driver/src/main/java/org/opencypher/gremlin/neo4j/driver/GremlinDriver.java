@@ -19,25 +19,45 @@ import org.neo4j.driver.v1.AccessMode;
 import org.neo4j.driver.v1.Driver;
 import org.neo4j.driver.v1.Session;
 
-interface GremlinDriver extends Driver {
+/**
+ * A Neo4j {@link Driver} for Gremlin Server or a Gremlin graph,
+ * as created by {@link GremlinDatabase}.
+ * <p>
+ * Access modes and bookmarks are not applicable to Gremlin Server and are ignored.
+ */
+public interface GremlinDriver extends Driver {
+
+    /**
+     * Creates a session that publishes query results according to subscriber demand.
+     *
+     * @return a new reactive session
+     */
+    GremlinReactiveSession reactiveSession();
+
+    /**
+     * Creates a session that runs statements and iterates their results without blocking the caller.
+     *
+     * @return a new asynchronous session
+     */
+    GremlinAsyncSession asyncSession();
 
     default Session session(AccessMode mode) {
-        throw new UnsupportedOperationException("Transactions are currently not supported");
+        return session();
     }
 
     default Session session(String bookmark) {
-        throw new UnsupportedOperationException("Transactions are currently not supported");
+        return session();
     }
 
     default Session session(AccessMode mode, String bookmark) {
-        throw new UnsupportedOperationException("Transactions are currently not supported");
+        return session();
     }
 
     default Session session(Iterable<String> bookmarks) {
-        throw new UnsupportedOperationException("Transactions are currently not supported");
+        return session();
     }
 
     default Session session(AccessMode mode, Iterable<String> bookmarks) {
-        throw new UnsupportedOperationException("Transactions are currently not supported");
+        return session();
     }
 }
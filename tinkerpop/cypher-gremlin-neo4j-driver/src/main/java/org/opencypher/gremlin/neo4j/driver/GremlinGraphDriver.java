@@ -16,16 +16,24 @@
 package org.opencypher.gremlin.neo4j.driver;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.neo4j.driver.v1.Session;
+import org.neo4j.driver.v1.Transaction;
 import org.neo4j.driver.v1.summary.ServerInfo;
 import org.opencypher.gremlin.client.CypherGremlinClient;
 
 public class GremlinGraphDriver implements GremlinDriver {
     private final GraphTraversalSource graphTraversalSource;
     private final GremlinServerInfo serverInfo;
+    private final Config config;
 
     GremlinGraphDriver(GraphTraversalSource graphTraversalSource) {
+        this(graphTraversalSource, Config.defaultConfig());
+    }
+
+    GremlinGraphDriver(GraphTraversalSource graphTraversalSource, Config config) {
         this.graphTraversalSource = graphTraversalSource;
+        this.config = config;
         serverInfo = new GremlinServerInfo();
     }
 
@@ -37,7 +45,45 @@ public class GremlinGraphDriver implements GremlinDriver {
     @Override
     public Session session() {
         CypherGremlinClient cypherGremlinClient = CypherGremlinClient.inMemory(graphTraversalSource);
-        return new GremlinServerSession(serverInfo, cypherGremlinClient, new GremlinCypherValueConverter(false));
+        return new GremlinServerSession(serverInfo, cypherGremlinClient, new GremlinCypherValueConverter(false),
+            this::beginTransaction, config.maxTransactionRetries());
+    }
+
+    private Transaction beginTransaction() {
+        Graph graph = graphTraversalSource.getGraph();
+        boolean supportsTransactions = graph.features().graph().supportsTransactions();
+        if (supportsTransactions) {
+            if (graph.tx().isOpen()) {
+                // left open by auto-commit statements run on this thread outside of a transaction
+                graph.tx().commit();
+            }
+            graph.tx().open();
+        }
+
+        CypherGremlinClient cypherGremlinClient = CypherGremlinClient.inMemory(graphTraversalSource);
+        return new GremlinServerTransaction(serverInfo, cypherGremlinClient, new GremlinCypherValueConverter(false),
+            () -> {
+                if (supportsTransactions) {
+                    graph.tx().commit();
+                }
+            },
+            () -> {
+                if (supportsTransactions) {
+                    graph.tx().rollback();
+                }
+            });
+    }
+
+    @Override
+    public GremlinReactiveSession reactiveSession() {
+        CypherGremlinClient cypherGremlinClient = CypherGremlinClient.inMemory(graphTraversalSource);
+        return new GremlinReactiveSession(cypherGremlinClient, new GremlinCypherValueConverter(false));
+    }
+
+    @Override
+    public GremlinAsyncSession asyncSession() {
+        CypherGremlinClient cypherGremlinClient = CypherGremlinClient.inMemory(graphTraversalSource);
+        return new GremlinAsyncSession(serverInfo, cypherGremlinClient, new GremlinCypherValueConverter(false));
     }
 
     @Override
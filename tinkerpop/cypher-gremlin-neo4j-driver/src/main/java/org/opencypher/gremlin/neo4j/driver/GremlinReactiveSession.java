@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.neo4j.driver;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.Statement;
+import org.neo4j.driver.v1.Value;
+import org.opencypher.gremlin.client.CypherGremlinClient;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A session that publishes query results as Neo4j {@link Record records}
+ * according to subscriber demand, without blocking the caller.
+ *
+ * @see GremlinDriver#reactiveSession()
+ */
+public final class GremlinReactiveSession implements AutoCloseable {
+    private final CypherGremlinClient client;
+    private final GremlinCypherValueConverter converter;
+    private boolean open = true;
+
+    GremlinReactiveSession(CypherGremlinClient client, GremlinCypherValueConverter converter) {
+        this.client = client;
+        this.converter = converter;
+    }
+
+    /**
+     * Runs a statement and publishes its records.
+     *
+     * @param statementTemplate text of a Cypher statement
+     * @return single-subscriber publisher of records
+     */
+    public Publisher<Record> run(String statementTemplate) {
+        return run(statementTemplate, new HashMap<>());
+    }
+
+    /**
+     * Runs a statement and publishes its records.
+     *
+     * @param statementTemplate text of a Cypher statement
+     * @param parameters        input parameters
+     * @return single-subscriber publisher of records
+     */
+    public Publisher<Record> run(String statementTemplate, Value parameters) {
+        return run(statementTemplate, parameters.asMap());
+    }
+
+    /**
+     * Runs a statement and publishes its records.
+     *
+     * @param statementTemplate   text of a Cypher statement
+     * @param statementParameters input parameters
+     * @return single-subscriber publisher of records
+     */
+    public Publisher<Record> run(String statementTemplate, Map<String, Object> statementParameters) {
+        return run(new Statement(statementTemplate, statementParameters));
+    }
+
+    /**
+     * Runs a statement and publishes its records.
+     *
+     * @param statement a Cypher statement
+     * @return single-subscriber publisher of records
+     */
+    public Publisher<Record> run(Statement statement) {
+        HashMap<String, Object> serializableMap = new HashMap<>(statement.parameters().asMap());
+        Publisher<Map<String, Object>> rows = client.submitReactive(statement.text(), serializableMap);
+        return subscriber -> rows.subscribe(new RecordSubscriber(subscriber));
+    }
+
+    /**
+     * @return true if this session has not been closed
+     */
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        open = false;
+        client.close();
+    }
+
+    private final class RecordSubscriber implements Subscriber<Map<String, Object>> {
+        private final Subscriber<? super Record> downstream;
+
+        RecordSubscriber(Subscriber<? super Record> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(Map<String, Object> row) {
+            downstream.onNext(converter.toRecord(row));
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            downstream.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            downstream.onComplete();
+        }
+    }
+}
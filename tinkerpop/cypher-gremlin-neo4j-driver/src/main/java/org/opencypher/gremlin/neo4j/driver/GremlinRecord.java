@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.neo4j.driver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import org.neo4j.driver.internal.InternalPair;
+import org.neo4j.driver.internal.types.InternalMapAccessorWithDefaultValue;
+import org.neo4j.driver.internal.value.NullValue;
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.util.Function;
+import org.neo4j.driver.v1.util.Pair;
+
+/**
+ * {@link Record} over a normalized Cypher result row.
+ * Each column is converted to a {@link Value} on first access.
+ */
+final class GremlinRecord extends InternalMapAccessorWithDefaultValue implements Record {
+    private final List<String> keys;
+    private final Object[] row;
+    private final Value[] values;
+    private final GremlinCypherValueConverter converter;
+
+    GremlinRecord(Map<String, Object> row, GremlinCypherValueConverter converter) {
+        int size = row.size();
+        List<String> keys = new ArrayList<>(size);
+        this.row = new Object[size];
+        int i = 0;
+        for (Map.Entry<String, Object> entry : row.entrySet()) {
+            keys.add(entry.getKey());
+            this.row[i++] = entry.getValue();
+        }
+        this.keys = Collections.unmodifiableList(keys);
+        this.values = new Value[size];
+        this.converter = converter;
+    }
+
+    @Override
+    public List<String> keys() {
+        return keys;
+    }
+
+    @Override
+    public List<Value> values() {
+        List<Value> result = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            result.add(get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return keys.contains(key);
+    }
+
+    @Override
+    public int index(String key) {
+        int index = keys.indexOf(key);
+        if (index == -1) {
+            throw new NoSuchElementException("Unknown key: " + key);
+        }
+        return index;
+    }
+
+    @Override
+    public Value get(String key) {
+        int index = keys.indexOf(key);
+        return index == -1 ? NullValue.NULL : get(index);
+    }
+
+    @Override
+    public Value get(int index) {
+        if (index < 0 || index >= values.length) {
+            throw new ClientException("Index out of bounds: " + index + ", record has " + values.length + " values");
+        }
+        Value value = values[index];
+        if (value == null) {
+            value = converter.toCypherValue(row[index]);
+            values[index] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return keys.size();
+    }
+
+    @Override
+    public Map<String, Object> asMap() {
+        return asMap(Value::asObject);
+    }
+
+    @Override
+    public <T> Map<String, T> asMap(Function<Value, T> mapper) {
+        Map<String, T> map = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            map.put(keys.get(i), mapper.apply(get(i)));
+        }
+        return map;
+    }
+
+    @Override
+    public List<Pair<String, Value>> fields() {
+        List<Pair<String, Value>> fields = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            fields.add(InternalPair.of(keys.get(i), get(i)));
+        }
+        return fields;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Record)) {
+            return false;
+        }
+        Record that = (Record) other;
+        return keys.equals(that.keys()) && values().equals(that.values());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keys, values());
+    }
+
+    @Override
+    public String toString() {
+        return "Record<" + asMap(Value::toString) + ">";
+    }
+}
@@ -15,13 +15,19 @@
  */
 package org.opencypher.gremlin.neo4j.driver;
 
+import java.util.UUID;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.Cluster;
 import org.neo4j.driver.v1.Session;
+import org.neo4j.driver.v1.Transaction;
 import org.neo4j.driver.v1.summary.ServerInfo;
 import org.opencypher.gremlin.client.CypherGremlinClient;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 
 class GremlinServerDriver implements GremlinDriver {
+    private static final String COMMIT = "if (g.getGraph().features().graph().supportsTransactions()) { g.getGraph().tx().commit() }";
+    private static final String ROLLBACK = "if (g.getGraph().features().graph().supportsTransactions()) { g.getGraph().tx().rollback() }";
+
     private final Cluster cluster;
     private final GremlinServerInfo serverInfo;
     private final Config config;
@@ -39,15 +45,44 @@ class GremlinServerDriver implements GremlinDriver {
 
     @Override
     public Session session() {
+        return new GremlinServerSession(serverInfo, createClient(), createConverter(),
+            this::beginTransaction, config.maxTransactionRetries());
+    }
+
+    @Override
+    public GremlinReactiveSession reactiveSession() {
+        return new GremlinReactiveSession(createClient(), createConverter());
+    }
+
+    @Override
+    public GremlinAsyncSession asyncSession() {
+        return new GremlinAsyncSession(serverInfo, createClient(), createConverter());
+    }
+
+    private CypherGremlinClient createClient() {
         Client gremlinClient = cluster.connect();
 
-        CypherGremlinClient cypherGremlinClient = config.translationEnabled()
+        return config.translationEnabled()
             ? CypherGremlinClient.translating(gremlinClient, config.flavor())
-            : CypherGremlinClient.plugin(gremlinClient);
+            : CypherGremlinClient.plugin(gremlinClient, config.isCompactResults());
+    }
+
+    /**
+     * Statements of a transaction are run in a Gremlin Server session, so they share a single graph transaction.
+     * Cypher plugin does not take part in sessions, so statements are translated on the client.
+     */
+    private Transaction beginTransaction() {
+        Client sessionClient = cluster.connect(UUID.randomUUID().toString());
+        TranslatorFlavor flavor = config.translationEnabled() ? config.flavor() : TranslatorFlavor.gremlinServer();
+        CypherGremlinClient client = CypherGremlinClient.translating(sessionClient, flavor);
 
-        GremlinCypherValueConverter converter = new GremlinCypherValueConverter(config.isIgnoreIds());
+        return new GremlinServerTransaction(serverInfo, client, createConverter(),
+            () -> sessionClient.submit(COMMIT).all().join(),
+            () -> sessionClient.submit(ROLLBACK).all().join());
+    }
 
-        return new GremlinServerSession(serverInfo, cypherGremlinClient, converter);
+    private GremlinCypherValueConverter createConverter() {
+        return new GremlinCypherValueConverter(config.isIgnoreIds());
     }
 
     @Override
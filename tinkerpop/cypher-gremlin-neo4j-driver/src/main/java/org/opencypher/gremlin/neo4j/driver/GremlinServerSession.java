@@ -15,9 +15,11 @@
  */
 package org.opencypher.gremlin.neo4j.driver;
 
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import org.apache.tinkerpop.gremlin.driver.exception.ResponseException;
 import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Session;
 import org.neo4j.driver.v1.Statement;
@@ -25,52 +27,112 @@ import org.neo4j.driver.v1.StatementResult;
 import org.neo4j.driver.v1.Transaction;
 import org.neo4j.driver.v1.TransactionWork;
 import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.exceptions.TransientException;
 import org.neo4j.driver.v1.summary.ServerInfo;
 import org.neo4j.driver.v1.types.TypeSystem;
 import org.opencypher.gremlin.client.CypherGremlinClient;
 
 class GremlinServerSession implements Session {
+    private static final long INITIAL_RETRY_DELAY_MS = 50;
+    private static final long MAX_RETRY_DELAY_MS = 1000;
+
     private final ServerInfo serverInfo;
     private final CypherGremlinClient client;
     private final GremlinCypherValueConverter converter;
+    private final TransactionFactory transactionFactory;
+    private final int maxTransactionRetries;
+    private Transaction transaction;
     private boolean open = true;
 
-    GremlinServerSession(ServerInfo serverInfo, CypherGremlinClient client, GremlinCypherValueConverter converter) {
+    GremlinServerSession(ServerInfo serverInfo,
+                         CypherGremlinClient client,
+                         GremlinCypherValueConverter converter,
+                         TransactionFactory transactionFactory,
+                         int maxTransactionRetries) {
         this.serverInfo = serverInfo;
         this.client = client;
         this.converter = converter;
+        this.transactionFactory = transactionFactory;
+        this.maxTransactionRetries = maxTransactionRetries;
     }
 
     @Override
     public Transaction beginTransaction() {
-        throw new UnsupportedOperationException("Transactions are currently not supported");
+        if (transaction != null && transaction.isOpen()) {
+            throw new ClientException("You cannot begin a transaction on a session with an open transaction; " +
+                "either run from within the transaction or use a different session.");
+        }
+        transaction = transactionFactory.begin();
+        return transaction;
     }
 
     @Override
     @SuppressWarnings("deprecation")
     public Transaction beginTransaction(String bookmark) {
-        throw new UnsupportedOperationException("Transactions are currently not supported");
+        return beginTransaction();
     }
 
     @Override
     public <T> T readTransaction(TransactionWork<T> work) {
-        throw new UnsupportedOperationException("Transactions are currently not supported");
+        return transaction(work);
     }
 
     @Override
     public <T> T writeTransaction(TransactionWork<T> work) {
-        throw new UnsupportedOperationException("Transactions are currently not supported");
+        return transaction(work);
+    }
+
+    private <T> T transaction(TransactionWork<T> work) {
+        int attempt = 0;
+        while (true) {
+            try (Transaction tx = beginTransaction()) {
+                T result = work.execute(tx);
+                tx.success();
+                return result;
+            } catch (RuntimeException e) {
+                if (attempt >= maxTransactionRetries || !isRetriable(e)) {
+                    throw e;
+                }
+                backOff(attempt++);
+            }
+        }
+    }
+
+    private static boolean isRetriable(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof TransientException || t instanceof ConcurrentModificationException) {
+                return true;
+            }
+            if (t instanceof ResponseException) {
+                String message = String.valueOf(t.getMessage()).toLowerCase();
+                return message.contains("conflict") || message.contains("concurrent") || message.contains("lock");
+            }
+        }
+        return false;
+    }
+
+    private static void backOff(int attempt) {
+        try {
+            Thread.sleep(Math.min(INITIAL_RETRY_DELAY_MS << attempt, MAX_RETRY_DELAY_MS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying transaction", e);
+        }
     }
 
     @Override
     public String lastBookmark() {
-        throw new UnsupportedOperationException("Transactions are currently not supported");
+        return null;
     }
 
     @Override
     @SuppressWarnings("deprecation")
     public void reset() {
-        throw new UnsupportedOperationException("Transactions are currently not supported");
+        if (transaction != null) {
+            transaction.failure();
+            transaction.close();
+        }
     }
 
     @Override
@@ -81,6 +143,9 @@ class GremlinServerSession implements Session {
     @Override
     public void close() {
         open = false;
+        if (transaction != null) {
+            transaction.close();
+        }
         client.close();
     }
 
@@ -115,4 +180,9 @@ class GremlinServerSession implements Session {
     public TypeSystem typeSystem() {
         throw new UnsupportedOperationException("TypeSystem is currently not supported");
     }
+
+    @FunctionalInterface
+    interface TransactionFactory {
+        Transaction begin();
+    }
 }
@@ -15,8 +15,6 @@
  */
 package org.opencypher.gremlin.neo4j.driver;
 
-import static java.util.stream.Collectors.toList;
-
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -92,14 +90,15 @@ class GremlinServerStatementResult implements StatementResult {
 
     @Override
     public <T> List<T> list(Function<Record, T> mapFunction) {
-        return list().stream()
-            .map(mapFunction::apply)
-            .collect(toList());
+        ArrayList<T> list = new ArrayList<>();
+        iterator.forEachRemaining(e -> list.add(mapFunction.apply(converter.toRecord(e))));
+        return list;
     }
 
     @Override
     public ResultSummary consume() {
-        list();
+        iterator.forEachRemaining(e -> {
+        });
         return new GremlinServerResultSummary(statement, serverInfo);
     }
 
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.neo4j.driver;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.Statement;
+import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.Transaction;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.summary.ServerInfo;
+import org.neo4j.driver.v1.types.TypeSystem;
+import org.opencypher.gremlin.client.CypherGremlinClient;
+
+/**
+ * A transaction that runs all statements in a single graph transaction and commits once, on close.
+ * <p>
+ * Results of each statement are fetched when the statement is run, while the transaction is open.
+ * <p>
+ * Changes are committed if {@link #success()} was called and {@link #failure()} was not,
+ * and rolled back otherwise.
+ */
+class GremlinServerTransaction implements Transaction {
+    private final ServerInfo serverInfo;
+    private final CypherGremlinClient client;
+    private final GremlinCypherValueConverter converter;
+    private final Runnable commit;
+    private final Runnable rollback;
+    private boolean open = true;
+    private boolean success;
+    private boolean failure;
+
+    GremlinServerTransaction(ServerInfo serverInfo,
+                             CypherGremlinClient client,
+                             GremlinCypherValueConverter converter,
+                             Runnable commit,
+                             Runnable rollback) {
+        this.serverInfo = serverInfo;
+        this.client = client;
+        this.converter = converter;
+        this.commit = commit;
+        this.rollback = rollback;
+    }
+
+    @Override
+    public void success() {
+        success = true;
+    }
+
+    @Override
+    public void failure() {
+        failure = true;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        if (!open) {
+            return;
+        }
+        open = false;
+        try {
+            if (success && !failure) {
+                commit.run();
+            } else {
+                rollback.run();
+            }
+        } finally {
+            client.close();
+        }
+    }
+
+    @Override
+    public StatementResult run(String statementTemplate, Value parameters) {
+        return run(statementTemplate, parameters.asMap());
+    }
+
+    @Override
+    public StatementResult run(String statementTemplate, Record statementParameters) {
+        return run(statementTemplate, statementParameters.asMap());
+    }
+
+    @Override
+    public StatementResult run(String statementTemplate) {
+        return run(statementTemplate, new HashMap<>());
+    }
+
+    @Override
+    public StatementResult run(String statementTemplate, Map<String, Object> statementParameters) {
+        return run(new Statement(statementTemplate, statementParameters));
+    }
+
+    @Override
+    public StatementResult run(Statement statement) {
+        if (!open) {
+            throw new ClientException("Cannot run more statements in this transaction, because it has been closed");
+        }
+        HashMap<String, Object> serializableMap = new HashMap<>(statement.parameters().asMap());
+        List<Map<String, Object>> results = client.submit(statement.text(), serializableMap).all();
+        return new GremlinServerStatementResult(serverInfo, statement, results.iterator(), converter);
+    }
+
+    @Override
+    public TypeSystem typeSystem() {
+        throw new UnsupportedOperationException("TypeSystem is currently not supported");
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.neo4j.driver;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.Statement;
+import org.neo4j.driver.v1.exceptions.NoSuchRecordException;
+import org.neo4j.driver.v1.summary.ResultSummary;
+import org.neo4j.driver.v1.summary.ServerInfo;
+import org.neo4j.driver.v1.util.Function;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Asynchronous cursor over the records of a statement result.
+ * <p>
+ * Records are requested from the underlying result stream in batches, when the buffered ones are consumed,
+ * so no thread is blocked while waiting for results.
+ * A cursor is meant to be consumed sequentially, by a single consumer.
+ *
+ * @see GremlinAsyncSession#runAsync(Statement)
+ */
+public final class GremlinStatementResultCursor {
+    static final int BATCH_SIZE = 256;
+
+    private final Statement statement;
+    private final ServerInfo serverInfo;
+    private final GremlinCypherValueConverter converter;
+
+    private final Queue<Record> buffer = new ArrayDeque<>();
+    private final List<CompletableFuture<Void>> waiting = new ArrayList<>();
+    private Subscription subscription;
+    private List<String> keys = Collections.emptyList();
+    private long outstanding;
+    private boolean completed;
+    private Throwable error;
+
+    GremlinStatementResultCursor(Statement statement,
+                                 ServerInfo serverInfo,
+                                 Publisher<Map<String, Object>> rows,
+                                 GremlinCypherValueConverter converter) {
+        this.statement = statement;
+        this.serverInfo = serverInfo;
+        this.converter = converter;
+        rows.subscribe(new RowSubscriber());
+    }
+
+    /**
+     * Returns the keys of records, once the first record is available.
+     *
+     * @return record keys, or an empty list if no records are received yet
+     */
+    public synchronized List<String> keys() {
+        return keys;
+    }
+
+    /**
+     * Asynchronously retrieves the next record.
+     *
+     * @return stage completed with the next record, or with {@code null} if there are no more records
+     */
+    public CompletionStage<Record> nextAsync() {
+        return whenAvailable().thenCompose(ignored -> {
+            synchronized (this) {
+                if (!buffer.isEmpty()) {
+                    return completedFuture(buffer.poll());
+                }
+                if (error != null) {
+                    return failed(error);
+                }
+                if (completed) {
+                    return completedFuture(null);
+                }
+            }
+            return nextAsync();
+        });
+    }
+
+    /**
+     * Asynchronously retrieves the next record without consuming it.
+     *
+     * @return stage completed with the next record, or with {@code null} if there are no more records
+     */
+    public CompletionStage<Record> peekAsync() {
+        return whenAvailable().thenCompose(ignored -> {
+            synchronized (this) {
+                if (!buffer.isEmpty()) {
+                    return completedFuture(buffer.peek());
+                }
+                if (error != null) {
+                    return failed(error);
+                }
+                if (completed) {
+                    return completedFuture(null);
+                }
+            }
+            return peekAsync();
+        });
+    }
+
+    /**
+     * Asynchronously retrieves the single remaining record.
+     *
+     * @return stage completed with the record, or failed with {@link NoSuchRecordException}
+     * if there is not exactly one record
+     */
+    public CompletionStage<Record> singleAsync() {
+        return nextAsync().thenCompose(first -> {
+            if (first == null) {
+                return failed(new NoSuchRecordException("Cannot retrieve a single record, because this result is empty."));
+            }
+            return peekAsync().thenCompose(second -> second == null
+                ? completedFuture(first)
+                : failed(new NoSuchRecordException("Expected a result with a single record, but this result contains at least one more. " +
+                "Ensure your query returns only one record.")));
+        });
+    }
+
+    /**
+     * Asynchronously applies the action to each remaining record.
+     *
+     * @param action action to apply
+     * @return stage completed with the result summary after all records are processed
+     */
+    public CompletionStage<ResultSummary> forEachAsync(Consumer<Record> action) {
+        CompletableFuture<ResultSummary> result = new CompletableFuture<>();
+        forEach(action, result);
+        return result;
+    }
+
+    /**
+     * Asynchronously collects the remaining records.
+     *
+     * @return stage completed with the list of records
+     */
+    public CompletionStage<List<Record>> listAsync() {
+        return listAsync(record -> record);
+    }
+
+    /**
+     * Asynchronously maps and collects the remaining records in a single pass.
+     *
+     * @param mapFunction record mapping function
+     * @param <T>         type of mapped records
+     * @return stage completed with the list of mapped records
+     */
+    public <T> CompletionStage<List<T>> listAsync(Function<Record, T> mapFunction) {
+        List<T> list = new ArrayList<>();
+        return forEachAsync(record -> list.add(mapFunction.apply(record))).thenApply(summary -> list);
+    }
+
+    /**
+     * Discards the remaining records.
+     * Pending {@link #nextAsync()} and {@link #peekAsync()} stages are completed with {@code null}.
+     *
+     * @return stage completed with the result summary
+     */
+    public CompletionStage<ResultSummary> consumeAsync() {
+        Subscription subscription;
+        synchronized (this) {
+            buffer.clear();
+            completed = true;
+            subscription = this.subscription;
+        }
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        notifyWaiting();
+        return completedFuture(summary());
+    }
+
+    private ResultSummary summary() {
+        return new GremlinServerResultSummary(statement, serverInfo);
+    }
+
+    private void forEach(Consumer<Record> action, CompletableFuture<ResultSummary> result) {
+        while (true) {
+            CompletableFuture<Void> available = whenAvailable();
+            if (!available.isDone()) {
+                available.whenComplete((ignored, throwable) -> forEach(action, result));
+                return;
+            }
+
+            Record record;
+            Throwable throwable;
+            boolean done;
+            synchronized (this) {
+                record = buffer.poll();
+                throwable = error;
+                done = completed;
+            }
+
+            if (record != null) {
+                try {
+                    action.accept(record);
+                } catch (Throwable t) {
+                    consumeAsync();
+                    result.completeExceptionally(t);
+                    return;
+                }
+            } else if (throwable != null) {
+                result.completeExceptionally(throwable);
+                return;
+            } else if (done) {
+                result.complete(summary());
+                return;
+            }
+        }
+    }
+
+    private CompletableFuture<Void> whenAvailable() {
+        CompletableFuture<Void> future;
+        Subscription subscription = null;
+        synchronized (this) {
+            if (!buffer.isEmpty() || completed || error != null) {
+                return completedFuture(null);
+            }
+            future = new CompletableFuture<>();
+            waiting.add(future);
+            if (outstanding == 0 && this.subscription != null) {
+                outstanding = BATCH_SIZE;
+                subscription = this.subscription;
+            }
+        }
+        if (subscription != null) {
+            subscription.request(BATCH_SIZE);
+        }
+        return future;
+    }
+
+    private void notifyWaiting() {
+        List<CompletableFuture<Void>> notified;
+        synchronized (this) {
+            notified = new ArrayList<>(waiting);
+            waiting.clear();
+        }
+        for (CompletableFuture<Void> future : notified) {
+            future.complete(null);
+        }
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    private final class RowSubscriber implements Subscriber<Map<String, Object>> {
+        @Override
+        public void onSubscribe(Subscription s) {
+            boolean request;
+            synchronized (GremlinStatementResultCursor.this) {
+                subscription = s;
+                request = !waiting.isEmpty() && outstanding == 0;
+                if (request) {
+                    outstanding = BATCH_SIZE;
+                }
+            }
+            if (request) {
+                s.request(BATCH_SIZE);
+            }
+        }
+
+        @Override
+        public void onNext(Map<String, Object> row) {
+            synchronized (GremlinStatementResultCursor.this) {
+                if (completed) {
+                    return;
+                }
+                if (keys.isEmpty()) {
+                    keys = Collections.unmodifiableList(new ArrayList<>(row.keySet()));
+                }
+                buffer.add(converter.toRecord(row));
+                outstanding--;
+            }
+            notifyWaiting();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            synchronized (GremlinStatementResultCursor.this) {
+                error = throwable;
+            }
+            notifyWaiting();
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (GremlinStatementResultCursor.this) {
+                completed = true;
+            }
+            notifyWaiting();
+        }
+    }
+}
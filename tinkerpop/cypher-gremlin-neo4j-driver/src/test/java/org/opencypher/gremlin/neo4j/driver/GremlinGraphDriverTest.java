@@ -17,17 +17,30 @@ package org.opencypher.gremlin.neo4j.driver;
 
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.neo4j.driver.v1.Values.parameters;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.junit.Test;
 import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Session;
+import org.neo4j.driver.v1.Statement;
 import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.Transaction;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.exceptions.TransientException;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 public class GremlinGraphDriverTest {
 
@@ -55,4 +68,170 @@ public class GremlinGraphDriverTest {
             .extracting("n.name")
             .containsExactly("marko");
     }
+
+    @Test
+    public void reactiveSession() {
+        TinkerGraph tinkerGraph = TinkerFactory.createModern();
+        GremlinGraphDriver driver = new GremlinGraphDriver(tinkerGraph.traversal());
+
+        List<Object> names = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        try (GremlinReactiveSession session = driver.reactiveSession()) {
+            session.run("MATCH (n:person) RETURN n.name ORDER BY n.name").subscribe(new Subscriber<Record>() {
+                @Override
+                public void onSubscribe(Subscription s) {
+                    subscription.set(s);
+                }
+
+                @Override
+                public void onNext(Record record) {
+                    names.add(record.get("n.name").asString());
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    throw new AssertionError(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.set(true);
+                }
+            });
+
+            assertThat(names).isEmpty();
+            subscription.get().request(2);
+            assertThat(names).containsExactly("josh", "marko");
+            assertThat(completed).isFalse();
+            subscription.get().request(Long.MAX_VALUE);
+        }
+
+        assertThat(names).containsExactly("josh", "marko", "peter", "vadas");
+        assertThat(completed).isTrue();
+    }
+
+    @Test
+    public void asyncSession() {
+        TinkerGraph tinkerGraph = TinkerFactory.createModern();
+        GremlinGraphDriver driver = new GremlinGraphDriver(tinkerGraph.traversal());
+
+        try (GremlinAsyncSession session = driver.asyncSession()) {
+            GremlinStatementResultCursor cursor = session.runAsync("MATCH (n:person) RETURN n.name ORDER BY n.name")
+                .toCompletableFuture().join();
+
+            assertThat(cursor.keys()).containsExactly("n.name");
+            assertThat(cursor.nextAsync().toCompletableFuture().join().get("n.name").asString()).isEqualTo("josh");
+            assertThat(cursor.peekAsync().toCompletableFuture().join().get("n.name").asString()).isEqualTo("marko");
+
+            List<String> names = cursor.listAsync(record -> record.get("n.name").asString())
+                .toCompletableFuture().join();
+            assertThat(names).containsExactly("marko", "peter", "vadas");
+            assertThat(cursor.nextAsync().toCompletableFuture().join()).isNull();
+        }
+    }
+
+    @Test
+    public void recordIndexOutOfBounds() {
+        TinkerGraph tinkerGraph = TinkerFactory.createModern();
+        GremlinGraphDriver driver = new GremlinGraphDriver(tinkerGraph.traversal());
+
+        try (Session session = driver.session()) {
+            Record record = session.run("RETURN 1 AS one").single();
+
+            assertThat(record.get(0).asLong()).isEqualTo(1L);
+            assertThatThrownBy(() -> record.get(1))
+                .isInstanceOf(ClientException.class);
+            assertThatThrownBy(() -> record.get(-1))
+                .isInstanceOf(ClientException.class);
+        }
+    }
+
+    @Test
+    public void consumeCompletesPendingRecords() {
+        Publisher<Map<String, Object>> pending = subscriber -> subscriber.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        GremlinStatementResultCursor cursor = new GremlinStatementResultCursor(
+            new Statement("MATCH (n) RETURN n"), null, pending, new GremlinCypherValueConverter(false));
+
+        CompletableFuture<Record> next = cursor.nextAsync().toCompletableFuture();
+        CompletableFuture<Record> peek = cursor.peekAsync().toCompletableFuture();
+        assertThat(next).isNotDone();
+        assertThat(peek).isNotDone();
+
+        cursor.consumeAsync();
+
+        assertThat(next.join()).isNull();
+        assertThat(peek.join()).isNull();
+    }
+
+    @Test
+    public void asyncSessionError() {
+        TinkerGraph tinkerGraph = TinkerFactory.createModern();
+        GremlinGraphDriver driver = new GremlinGraphDriver(tinkerGraph.traversal());
+
+        try (GremlinAsyncSession session = driver.asyncSession()) {
+            assertThatThrownBy(() -> session.runAsync("INVALID").toCompletableFuture().join())
+                .hasMessageContaining("Invalid input");
+        }
+    }
+
+    @Test
+    public void transaction() {
+        TinkerGraph tinkerGraph = TinkerFactory.createModern();
+        GremlinGraphDriver driver = new GremlinGraphDriver(tinkerGraph.traversal());
+
+        try (Session session = driver.session()) {
+            try (Transaction tx = session.beginTransaction()) {
+                tx.run("CREATE (:person {name: 'alice'})");
+                tx.run("CREATE (:person {name: 'bob'})");
+                tx.success();
+            }
+
+            long count = session.run("MATCH (n:person) RETURN count(n) AS count").single().get("count").asLong();
+            assertThat(count).isEqualTo(6L);
+        }
+    }
+
+    @Test
+    public void writeTransactionRetry() {
+        TinkerGraph tinkerGraph = TinkerFactory.createModern();
+        GremlinGraphDriver driver = new GremlinGraphDriver(tinkerGraph.traversal());
+
+        AtomicInteger attempts = new AtomicInteger();
+        try (Session session = driver.session()) {
+            String name = session.writeTransaction(tx -> {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new TransientException("Conflict", "Concurrent modification");
+                }
+                return tx.run("MATCH (n:person {name: 'marko'}) RETURN n.name AS name").single().get("name").asString();
+            });
+
+            assertThat(name).isEqualTo("marko");
+        }
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    public void configuredTransactionRetries() {
+        TinkerGraph tinkerGraph = TinkerFactory.createModern();
+        Config config = Config.build().withMaxTransactionRetries(0).toConfig();
+        GremlinGraphDriver driver = new GremlinGraphDriver(tinkerGraph.traversal(), config);
+
+        AtomicInteger attempts = new AtomicInteger();
+        try (Session session = driver.session()) {
+            assertThatThrownBy(() -> session.writeTransaction(tx -> {
+                attempts.incrementAndGet();
+                throw new TransientException("Conflict", "Concurrent modification");
+            })).isInstanceOf(TransientException.class);
+        }
+        assertThat(attempts).hasValue(1);
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.neo4j.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+import org.neo4j.driver.v1.StatementResult;
+import org.opencypher.gremlin.client.CypherGremlinClient;
+
+public class GremlinServerTransactionTest {
+
+    private final List<String> events = new ArrayList<>();
+
+    private GremlinServerTransaction transaction() {
+        return transaction(TinkerGraph.open());
+    }
+
+    private GremlinServerTransaction transaction(TinkerGraph graph) {
+        CypherGremlinClient client = CypherGremlinClient.inMemory(graph.traversal());
+        return new GremlinServerTransaction(new GremlinGraphDriver.GremlinServerInfo(), client,
+            new GremlinCypherValueConverter(false),
+            () -> events.add("commit"),
+            () -> events.add("rollback"));
+    }
+
+    @Test
+    public void commitOnSuccess() {
+        GremlinServerTransaction tx = transaction();
+        tx.success();
+        tx.close();
+
+        assertThat(events).containsExactly("commit");
+        assertThat(tx.isOpen()).isFalse();
+    }
+
+    @Test
+    public void rollbackWithoutSuccess() {
+        GremlinServerTransaction tx = transaction();
+        tx.close();
+
+        assertThat(events).containsExactly("rollback");
+        assertThat(tx.isOpen()).isFalse();
+    }
+
+    @Test
+    public void rollbackOnFailure() {
+        GremlinServerTransaction tx = transaction();
+        tx.success();
+        tx.failure();
+        tx.close();
+
+        assertThat(events).containsExactly("rollback");
+    }
+
+    @Test
+    public void closeOnce() {
+        GremlinServerTransaction tx = transaction();
+        tx.success();
+        tx.close();
+        tx.close();
+
+        assertThat(events).containsExactly("commit");
+    }
+
+    @Test
+    public void statementsRunWithoutConsumingResults() {
+        TinkerGraph graph = TinkerFactory.createModern();
+        GremlinServerTransaction tx = transaction(graph);
+        tx.run("CREATE (:person {name: 'alice'})");
+        StatementResult result = tx.run("MATCH (n:person) RETURN n.name AS name");
+        tx.success();
+        tx.close();
+
+        assertThat(graph.traversal().V().hasLabel("person").count().next()).isEqualTo(5L);
+        assertThat(result.list()).hasSize(5);
+    }
+}
@@ -18,7 +18,6 @@ package org.opencypher.gremlin.client;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.opencypher.gremlin.client.CommonResultSets.exceptional;
 import static org.opencypher.gremlin.client.CommonResultSets.explain;
-import static org.opencypher.gremlin.translation.StatementOption.EXPLAIN;
 
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -27,19 +26,26 @@ import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.ResultSet;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
-import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.bytecode.BytecodeTemplate;
 import org.opencypher.gremlin.translation.translator.Translator;
 import org.opencypher.gremlin.traversal.ParameterNormalizer;
-import org.opencypher.gremlin.traversal.ReturnNormalizer;
 
 final class BytecodeCypherGremlinClient implements CypherGremlinClient {
 
     private final Client client;
     private final Supplier<Translator<Bytecode, P>> translatorSupplier;
+    private final TranslationCache translationCache;
 
     BytecodeCypherGremlinClient(Client client, Supplier<Translator<Bytecode, P>> translatorSupplier) {
+        this(client, translatorSupplier, TranslationCache.none());
+    }
+
+    BytecodeCypherGremlinClient(Client client,
+                                Supplier<Translator<Bytecode, P>> translatorSupplier,
+                                TranslationCache translationCache) {
         this.client = client;
         this.translatorSupplier = translatorSupplier;
+        this.translationCache = translationCache;
     }
 
     @Override
@@ -50,32 +56,26 @@ final class BytecodeCypherGremlinClient implements CypherGremlinClient {
     @Override
     public CompletableFuture<CypherResultSet> submitAsync(CypherStatement statement) {
         Map<String, Object> normalizedParameters = ParameterNormalizer.normalize(statement.parameters());
-        CypherAst ast;
+        TranslationCache.Translation<BytecodeTemplate> translation;
         try {
-            ast = CypherAst.parse(statement.query(), normalizedParameters);
+            translation = translationCache.translate(
+                statement.query(), normalizedParameters, translatorSupplier, BytecodeTemplate::of);
         } catch (Exception e) {
             return completedFuture(exceptional(e));
         }
 
-        if (ast.getOptions().contains(EXPLAIN)) {
-            return completedFuture(explain(ast));
+        if (translation.isExplain()) {
+            return completedFuture(explain(translation.ast()));
         }
 
-        Translator<Bytecode, P> translator = translatorSupplier.get();
-        Bytecode bytecode;
-        try {
-            bytecode = ast.buildTranslation(translator);
-        } catch (Exception e) {
-            return completedFuture(exceptional(e));
-        }
+        Bytecode bytecode = translation.translation().bind(translation.bindings(normalizedParameters));
 
         CompletableFuture<ResultSet> resultSetFuture = client.submitAsync(bytecode, statement.requestOptions());
-        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(ast.getReturnTypes());
         return resultSetFuture
-            .thenApply(ResultSet::iterator)
-            .thenApply(resultIterator -> new CypherResultSet(
-                new TraverserIterator(resultIterator),
-                returnNormalizer::normalize
+            .thenApply(resultSet -> new CypherResultSet(
+                resultSet,
+                TraverserIterator::new,
+                translation.returnNormalizer()::normalize
             ));
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.client;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.UnaryOperator;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.opencypher.gremlin.traversal.CompactRows;
+
+/**
+ * Decodes results of a single response stream sent in compact encoding.
+ * Header items are consumed, rows are restored to normalized maps.
+ */
+final class CompactResultDecoder implements UnaryOperator<Iterator<Result>> {
+    private final CompactRows.Decoder decoder = CompactRows.decoder();
+
+    @Override
+    public Iterator<Result> apply(Iterator<Result> results) {
+        return new Iterator<Result>() {
+            private Map<String, Object> next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && results.hasNext()) {
+                    next = decoder.decode(results.next().getObject());
+                }
+                return next != null;
+            }
+
+            @Override
+            public Result next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Result result = new Result(next);
+                next = null;
+                return result;
+            }
+        };
+    }
+}
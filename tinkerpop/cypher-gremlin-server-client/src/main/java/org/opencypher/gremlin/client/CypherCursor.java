@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.client;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A Cypher query result iterator that fetches results page by page.
+ * <p>
+ * At most a single page of results is held in memory by the client at any time.
+ * Call {@link #close()} to release server-side resources
+ * if the results are not going to be fully consumed.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @see CypherGremlinClient#cursor(CypherStatement, int)
+ */
+public final class CypherCursor implements Iterator<Map<String, Object>>, AutoCloseable {
+
+    private final PageSource source;
+    private final int pageSize;
+    private Iterator<Map<String, Object>> page;
+    private boolean hasMore = true;
+    private boolean closed;
+
+    CypherCursor(PageSource source, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size should be a positive number, got: " + pageSize);
+        }
+        this.source = source;
+        this.pageSize = pageSize;
+        this.page = new ArrayList<Map<String, Object>>().iterator();
+    }
+
+    static CypherCursor iterating(CypherResultSet resultSet, int pageSize) {
+        Iterator<Map<String, Object>> results = resultSet.iterator();
+        return new CypherCursor(new PageSource() {
+            @Override
+            public Page fetch(int size) {
+                List<Map<String, Object>> rows = new ArrayList<>(Math.min(size, 1024));
+                while (rows.size() < size && results.hasNext()) {
+                    rows.add(results.next());
+                }
+                return new Page(rows, results.hasNext());
+            }
+
+            @Override
+            public void close() {
+                resultSet.close();
+            }
+        }, pageSize);
+    }
+
+    /**
+     * Returns {@code true} if there are more results,
+     * fetching the next page of results if necessary.
+     *
+     * @return {@code true} if there are more results
+     */
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext() && hasMore && !closed) {
+            Page next;
+            try {
+                next = source.fetch(pageSize);
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+            page = next.rows.iterator();
+            hasMore = next.hasMore;
+        }
+        return page.hasNext();
+    }
+
+    @Override
+    public Map<String, Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    /**
+     * Releases the cursor. Remaining results are discarded.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        page = new ArrayList<Map<String, Object>>().iterator();
+        if (hasMore) {
+            source.close();
+        }
+    }
+
+    interface PageSource {
+        Page fetch(int pageSize);
+
+        void close();
+    }
+
+    static final class Page {
+        private final List<Map<String, Object>> rows;
+        private final boolean hasMore;
+
+        Page(List<Map<String, Object>> rows, boolean hasMore) {
+            this.rows = rows;
+            this.hasMore = hasMore;
+        }
+    }
+}
@@ -18,8 +18,11 @@ package org.opencypher.gremlin.client;
 import static java.util.Collections.emptyMap;
 
 import java.io.Closeable;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.ResultSet;
@@ -29,7 +32,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
 import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFactory;
 import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+import org.opencypher.gremlin.traversal.PreparedTraversal;
+import org.opencypher.gremlin.traversal.PreparedTraversalCache;
+import org.reactivestreams.Publisher;
 
 /**
  * This is a convenience wrapper around a Gremlin {@link Client}
@@ -49,6 +56,21 @@ public interface CypherGremlinClient extends Closeable {
         return new OpProcessorCypherGremlinClient(client);
     }
 
+    /**
+     * Creates a {@link CypherGremlinClient} that can send Cypher queries
+     * to a remote Gremlin Server with Cypher plugin.
+     * <p>
+     * With compact results, column names are sent once per response and rows are sent as positional lists,
+     * which reduces the size of wide results on the wire.
+     *
+     * @param client         Gremlin client
+     * @param compactResults request results in compact encoding
+     * @return Cypher-enabled client
+     */
+    static CypherGremlinClient plugin(Client client, boolean compactResults) {
+        return new OpProcessorCypherGremlinClient(client, compactResults);
+    }
+
     /**
      * Creates a {@link CypherGremlinClient} that can send Cypher queries
      * to any Gremlin Server or a compatible graph database as Gremlin-Groovy.
@@ -75,7 +97,24 @@ public interface CypherGremlinClient extends Closeable {
      * @return Cypher-enabled client
      */
     static CypherGremlinClient translating(Client client, TranslatorFlavor flavor) {
-        return translating(client, () -> Translator.builder().gremlinGroovy().build(flavor));
+        return translating(client, TranslatorFactory.gremlinGroovy(flavor));
+    }
+
+    /**
+     * Creates a {@link CypherGremlinClient} that can send Cypher queries
+     * to any Gremlin Server or a compatible graph database as Gremlin-Groovy.
+     * <p>
+     * Cypher to Gremlin translation is done on the client's thread,
+     * before sending the query to Gremlin Server.
+     * Translations of repeated queries are reused from the translation cache.
+     *
+     * @param client           Gremlin client
+     * @param flavor           translation flavor
+     * @param translationCache translation cache
+     * @return Cypher-enabled client
+     */
+    static CypherGremlinClient translating(Client client, TranslatorFlavor flavor, TranslationCache translationCache) {
+        return new GroovyCypherGremlinClient(client, TranslatorFactory.gremlinGroovy(flavor), translationCache);
     }
 
     /**
@@ -119,7 +158,24 @@ public interface CypherGremlinClient extends Closeable {
      * @return Cypher-enabled client
      */
     static CypherGremlinClient bytecode(Client client, TranslatorFlavor flavor) {
-        return bytecode(client, () -> Translator.builder().bytecode().build(flavor));
+        return bytecode(client, TranslatorFactory.bytecode(flavor));
+    }
+
+    /**
+     * Creates a {@link CypherGremlinClient} that can send Cypher queries
+     * to any Gremlin Server or a compatible graph database as Gremlin bytecode.
+     * <p>
+     * Cypher to Gremlin translation is done on the client's thread,
+     * before sending the query to Gremlin Server.
+     * Translations of repeated queries are reused from the translation cache.
+     *
+     * @param client           Gremlin client
+     * @param flavor           translation flavor
+     * @param translationCache translation cache
+     * @return Cypher-enabled client
+     */
+    static CypherGremlinClient bytecode(Client client, TranslatorFlavor flavor, TranslationCache translationCache) {
+        return new BytecodeCypherGremlinClient(client, TranslatorFactory.bytecode(flavor), translationCache);
     }
 
     /**
@@ -141,7 +197,12 @@ public interface CypherGremlinClient extends Closeable {
      * Creates a {@link CypherGremlinClient} that executes Cypher queries
      * directly on the configured {@link GraphTraversalSource}.
      * <p>
-     * Cypher to Gremlin translation is done on the client's thread.
+     * Cypher to Gremlin translation is done on the client's thread,
+     * so {@link #submitAsync(CypherStatement)} returns an already completed future.
+     * Use {@link #inMemory(GraphTraversalSource, Executor)} to translate on a different thread.
+     * <p>
+     * Results of read-only queries are pulled from the graph traversal lazily, as the result set is consumed.
+     * Updating queries are executed before the result set is returned.
      * Graph traversal execution is not synchronized.
      *
      * @param gts source of {@link GraphTraversal} to translate to
@@ -151,6 +212,39 @@ public interface CypherGremlinClient extends Closeable {
         return new InMemoryCypherGremlinClient(gts);
     }
 
+    /**
+     * Creates a {@link CypherGremlinClient} that executes Cypher queries
+     * directly on the configured {@link GraphTraversalSource}.
+     * <p>
+     * Cypher to Gremlin translation is done on the provided executor.
+     * Results of read-only queries are pulled from the graph traversal lazily, as the result set is consumed.
+     * Updating queries are executed on the executor, before the result set is returned.
+     * Graph traversal execution is not synchronized.
+     *
+     * @param gts      source of {@link GraphTraversal} to translate to
+     * @param executor executor for query translation and traversal preparation
+     * @return Cypher-enabled client
+     */
+    static CypherGremlinClient inMemory(GraphTraversalSource gts, Executor executor) {
+        return new InMemoryCypherGremlinClient(gts, executor);
+    }
+
+    /**
+     * Creates a {@link CypherGremlinClient} that executes Cypher queries
+     * directly on the configured {@link GraphTraversalSource}.
+     * <p>
+     * Traversals are translated and prepared once for each query and set of parameter names,
+     * and then executed from the cache of prepared traversals with the values of each execution.
+     *
+     * @param gts                source of {@link GraphTraversal} to translate to
+     * @param preparedTraversals cache of prepared traversals
+     * @return Cypher-enabled client
+     * @see PreparedTraversal
+     */
+    static CypherGremlinClient inMemory(GraphTraversalSource gts, PreparedTraversalCache preparedTraversals) {
+        return new InMemoryCypherGremlinClient(gts, Runnable::run, preparedTraversals);
+    }
+
     /**
      * Creates a {@link CypherGremlinClient} that can send Cypher queries
      * to any Gremlin Server or a compatible graph database as Gremlin-Groovy.
@@ -170,7 +264,7 @@ public interface CypherGremlinClient extends Closeable {
      * @return Cypher-enabled client
      */
     static CypherGremlinClient retrieving(Client client, TranslatorFlavor flavor) {
-        return new SyncGroovyCypherGremlinClient(client, () -> Translator.builder().gremlinGroovy().build(flavor));
+        return new SyncGroovyCypherGremlinClient(client, TranslatorFactory.gremlinGroovy(flavor));
     }
 
     /**
@@ -239,4 +333,78 @@ public interface CypherGremlinClient extends Closeable {
      * @see #statement(String)
      */
     CompletableFuture<CypherResultSet> submitAsync(CypherStatement statement);
+
+    /**
+     * Submits Cypher statements, keeping up to {@code maxInFlight} requests in progress at the same time.
+     * <p>
+     * Statements are translated on the common fork-join pool.
+     *
+     * @param statements  Cypher statements
+     * @param maxInFlight maximum number of requests in progress
+     * @return Cypher-style results, in the order of submission
+     * @see #submitAll(Iterable, int, Executor)
+     */
+    default CompletableFuture<List<CypherResultSet>> submitAll(Iterable<? extends CypherStatement> statements, int maxInFlight) {
+        return submitAll(statements, maxInFlight, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Submits Cypher statements, keeping up to {@code maxInFlight} requests in progress at the same time.
+     * <p>
+     * A request is in progress until all of its results are received by the client.
+     * Statements are translated on the provided executor, so translation of subsequent statements
+     * overlaps with execution of the preceding ones.
+     * Errors are reported per statement, when the respective result set is consumed.
+     * If a statement can not be submitted, e.g. the executor rejects it, the returned future completes exceptionally.
+     *
+     * @param statements  Cypher statements
+     * @param maxInFlight maximum number of requests in progress
+     * @param executor    executor for statement translation and submission
+     * @return Cypher-style results, in the order of submission
+     */
+    default CompletableFuture<List<CypherResultSet>> submitAll(Iterable<? extends CypherStatement> statements,
+                                                               int maxInFlight,
+                                                               Executor executor) {
+        return new PipelinedSubmission(this, statements, executor).start(maxInFlight);
+    }
+
+    /**
+     * Submits a Cypher statement and returns a cursor that fetches results page by page.
+     * <p>
+     * When Cypher is translated by the Gremlin Server plugin, pages are fetched on demand
+     * and intermediate results are kept on the server between fetches.
+     * Otherwise, pages are read from the submitted result set.
+     *
+     * @param statement Cypher statement
+     * @param pageSize  maximum number of results in a page
+     * @return Cypher-style results cursor
+     */
+    default CypherCursor cursor(CypherStatement statement, int pageSize) {
+        return CypherCursor.iterating(submitAsync(statement).join(), pageSize);
+    }
+
+    /**
+     * Submits a Cypher query and publishes results as they are requested by the subscriber.
+     *
+     * @param cypher     query text
+     * @param parameters query parameters
+     * @return single-subscriber publisher of Cypher-style results
+     */
+    default Publisher<Map<String, Object>> submitReactive(String cypher, Map<String, ?> parameters) {
+        return submitReactive(CypherStatement.create(cypher, parameters));
+    }
+
+    /**
+     * Submits a Cypher statement and publishes results as they are requested by the subscriber.
+     * <p>
+     * Subscriber demand is passed through to the underlying Gremlin result stream,
+     * so results from Gremlin Server are consumed without blocking a thread per query.
+     *
+     * @param statement Cypher statement
+     * @return single-subscriber publisher of Cypher-style results
+     * @see #statement(String)
+     */
+    default Publisher<Map<String, Object>> submitReactive(CypherStatement statement) {
+        return new CypherResultPublisher(submitAsync(statement));
+    }
 }
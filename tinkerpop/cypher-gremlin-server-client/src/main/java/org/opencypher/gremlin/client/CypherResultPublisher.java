@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.client;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A single-subscriber {@link Publisher} of Cypher query results.
+ * <p>
+ * Subscriber demand is translated into {@link CypherResultSet#fetch(int)} calls,
+ * so no thread is blocked while results are streaming from Gremlin Server.
+ *
+ * @see CypherGremlinClient#submitReactive(CypherStatement)
+ */
+final class CypherResultPublisher implements Publisher<Map<String, Object>> {
+
+    static final int MAX_BATCH_SIZE = 256;
+
+    private final CompletableFuture<CypherResultSet> resultSetFuture;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    CypherResultPublisher(CompletableFuture<CypherResultSet> resultSetFuture) {
+        this.resultSetFuture = resultSetFuture;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Map<String, Object>> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber must not be null");
+        }
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Query results can only be consumed once"));
+            return;
+        }
+
+        ResultSubscription subscription = new ResultSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        resultSetFuture.whenComplete(subscription::onResultSet);
+    }
+
+    private static final class ResultSubscription implements Subscription {
+        private final Subscriber<? super Map<String, Object>> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final Queue<Map<String, Object>> buffer = new ArrayDeque<>();
+
+        private volatile CypherResultSet resultSet;
+        private volatile boolean cancelled;
+        private volatile List<Map<String, Object>> fetchedRows;
+        private volatile Throwable error;
+
+        private boolean fetching;
+        private boolean exhausted;
+        private boolean done;
+
+        ResultSubscription(Subscriber<? super Map<String, Object>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested number of results must be positive, got: " + n);
+            } else {
+                requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void onResultSet(CypherResultSet resultSet, Throwable throwable) {
+            if (throwable != null) {
+                error = throwable;
+            } else {
+                this.resultSet = resultSet;
+            }
+            drain();
+        }
+
+        private void onFetched(List<Map<String, Object>> rows, Throwable throwable) {
+            if (throwable != null) {
+                error = throwable;
+            } else {
+                fetchedRows = rows;
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                drainLoop();
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private void drainLoop() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                terminate();
+                return;
+            }
+            Throwable throwable = error;
+            if (throwable != null) {
+                terminate();
+                subscriber.onError(throwable);
+                return;
+            }
+            CypherResultSet resultSet = this.resultSet;
+            if (resultSet == null) {
+                return;
+            }
+
+            if (fetching && fetchedRows != null) {
+                List<Map<String, Object>> rows = fetchedRows;
+                fetchedRows = null;
+                fetching = false;
+                if (rows.isEmpty()) {
+                    exhausted = true;
+                } else {
+                    buffer.addAll(rows);
+                }
+            }
+
+            long emitted = 0;
+            long demand = requested.get();
+            while (emitted < demand && !buffer.isEmpty()) {
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+                subscriber.onNext(buffer.poll());
+                emitted++;
+            }
+            if (emitted > 0) {
+                demand = requested.addAndGet(-emitted);
+            }
+
+            if (buffer.isEmpty()) {
+                if (exhausted) {
+                    terminate();
+                    subscriber.onComplete();
+                } else if (!fetching && demand > 0) {
+                    fetching = true;
+                    int batchSize = (int) Math.min(demand, MAX_BATCH_SIZE);
+                    resultSet.fetch(batchSize).whenComplete(this::onFetched);
+                }
+            }
+        }
+
+        private void terminate() {
+            done = true;
+            buffer.clear();
+            CypherResultSet resultSet = this.resultSet;
+            if (resultSet != null) {
+                resultSet.close();
+            }
+        }
+    }
+}
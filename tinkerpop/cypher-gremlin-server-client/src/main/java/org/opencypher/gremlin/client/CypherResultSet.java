@@ -20,14 +20,18 @@ import static java.util.Spliterator.NONNULL;
 import static java.util.Spliterators.spliteratorUnknownSize;
 import static java.util.stream.Collectors.toList;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.driver.ResultSet;
 
 /**
  * A Gremlin query result iterator wrapper.
@@ -35,21 +39,51 @@ import org.apache.tinkerpop.gremlin.driver.Result;
  * In the case of most {@link CypherGremlinClient} configurations,
  * instances of this class wrap a Gremlin {@link org.apache.tinkerpop.gremlin.driver.ResultSet} iterator,
  * so this class is not thread-safe, by extension.
+ * <p>
+ * Results may be produced lazily, as the iterator is consumed.
+ * Call {@link #close()} to release underlying resources
+ * if the results are not going to be fully consumed.
  *
  * @see CypherGremlinClient
  */
-public final class CypherResultSet implements Iterable<Map<String, Object>> {
+public final class CypherResultSet implements Iterable<Map<String, Object>>, AutoCloseable {
 
     private final Iterator<Result> resultIterator;
     private Function<Object, Map<String, Object>> returnNormalizer;
+    private final Runnable onClose;
+    private final ResultSet resultSet;
+    private final UnaryOperator<Iterator<Result>> resultUnwrapper;
 
     CypherResultSet(Iterator<Result> resultIterator) {
         this(resultIterator, CypherResultSet::castToMap);
     }
 
     CypherResultSet(Iterator<Result> resultIterator, Function<Object, Map<String, Object>> returnNormalizer) {
+        this(resultIterator, returnNormalizer, () -> {
+        });
+    }
+
+    CypherResultSet(Iterator<Result> resultIterator, Function<Object, Map<String, Object>> returnNormalizer, Runnable onClose) {
         this.resultIterator = resultIterator;
         this.returnNormalizer = returnNormalizer;
+        this.onClose = onClose;
+        this.resultSet = null;
+        this.resultUnwrapper = UnaryOperator.identity();
+    }
+
+    CypherResultSet(ResultSet resultSet, Function<Object, Map<String, Object>> returnNormalizer) {
+        this(resultSet, UnaryOperator.identity(), returnNormalizer);
+    }
+
+    CypherResultSet(ResultSet resultSet,
+                    UnaryOperator<Iterator<Result>> resultUnwrapper,
+                    Function<Object, Map<String, Object>> returnNormalizer) {
+        this.resultIterator = resultUnwrapper.apply(resultSet.iterator());
+        this.returnNormalizer = returnNormalizer;
+        this.onClose = () -> {
+        };
+        this.resultSet = resultSet;
+        this.resultUnwrapper = resultUnwrapper;
     }
 
     /**
@@ -102,8 +136,70 @@ public final class CypherResultSet implements Iterable<Map<String, Object>> {
         };
     }
 
+    /**
+     * Fetches up to the requested number of results without blocking the caller
+     * when results are streamed from a Gremlin Server.
+     * <p>
+     * The returned future completes with an empty list when all results are consumed.
+     * Should not be mixed with {@link #iterator()} on the same result set.
+     *
+     * @param count maximum number of Gremlin results to fetch
+     * @return future list of query results
+     */
+    CompletableFuture<List<Map<String, Object>>> fetch(int count) {
+        if (resultSet == null) {
+            CompletableFuture<List<Map<String, Object>>> future = new CompletableFuture<>();
+            try {
+                List<Map<String, Object>> rows = new ArrayList<>();
+                Iterator<Map<String, Object>> iterator = iterator();
+                while (rows.size() < count && iterator.hasNext()) {
+                    rows.add(iterator.next());
+                }
+                future.complete(rows);
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+
+        return resultSet.some(count).thenCompose(results -> {
+            List<Map<String, Object>> rows = new ArrayList<>(results.size());
+            Iterator<Result> iterator = resultUnwrapper.apply(results.iterator());
+            while (iterator.hasNext()) {
+                rows.add(returnNormalizer.apply(iterator.next().getObject()));
+            }
+            if (rows.isEmpty() && !results.isEmpty()) {
+                // unwrapper consumed service items only, e.g. a compact result header
+                return fetch(count);
+            }
+            return CompletableFuture.completedFuture(rows);
+        });
+    }
+
+    /**
+     * Returns a future that completes when all results are received by the client.
+     * Results produced in-process are never pending.
+     *
+     * @return future completion of result streaming
+     */
+    CompletableFuture<Void> received() {
+        if (resultSet == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return resultSet.allItemsAvailableAsync();
+    }
+
+    /**
+     * Releases resources held by this result set, such as an in-process traversal.
+     * Results that were not consumed yet are discarded.
+     */
+    @Override
+    public void close() {
+        onClose.run();
+    }
+
     @SuppressWarnings("unchecked")
-    private static Map<String, Object> castToMap(Object e) {
+    static Map<String, Object> castToMap(Object e) {
         return (Map<String, Object>) e;
     }
 }
@@ -18,29 +18,35 @@ package org.opencypher.gremlin.client;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.opencypher.gremlin.client.CommonResultSets.exceptional;
 import static org.opencypher.gremlin.client.CommonResultSets.explain;
-import static org.opencypher.gremlin.translation.StatementOption.EXPLAIN;
 
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.ResultSet;
 import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
-import org.opencypher.gremlin.translation.CypherAst;
 import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
 import org.opencypher.gremlin.translation.translator.Translator;
 import org.opencypher.gremlin.traversal.ParameterNormalizer;
-import org.opencypher.gremlin.traversal.ReturnNormalizer;
 
 final class GroovyCypherGremlinClient implements CypherGremlinClient {
 
     private final Client client;
     private final Supplier<Translator<String, GroovyPredicate>> translatorSupplier;
+    private final TranslationCache translationCache;
 
     GroovyCypherGremlinClient(Client client, Supplier<Translator<String, GroovyPredicate>> translatorSupplier) {
+        this(client, translatorSupplier, TranslationCache.none());
+    }
+
+    GroovyCypherGremlinClient(Client client,
+                              Supplier<Translator<String, GroovyPredicate>> translatorSupplier,
+                              TranslationCache translationCache) {
         this.client = client;
         this.translatorSupplier = translatorSupplier;
+        this.translationCache = translationCache;
     }
 
     @Override
@@ -51,32 +57,24 @@ final class GroovyCypherGremlinClient implements CypherGremlinClient {
     @Override
     public CompletableFuture<CypherResultSet> submitAsync(CypherStatement statement) {
         Map<String, Object> normalizedParameters = ParameterNormalizer.normalize(statement.parameters());
-        CypherAst ast;
+        TranslationCache.Translation<String> translation;
         try {
-            ast = CypherAst.parse(statement.query(), normalizedParameters);
+            translation = translationCache.translate(
+                statement.query(), normalizedParameters, translatorSupplier, Function.identity());
         } catch (Exception e) {
             return completedFuture(exceptional(e));
         }
 
-        if (ast.getOptions().contains(EXPLAIN)) {
-            return completedFuture(explain(ast));
-        }
-
-        Translator<String, GroovyPredicate> translator = translatorSupplier.get();
-        String gremlin;
-        try {
-            gremlin = ast.buildTranslation(translator);
-        } catch (Exception e) {
-            return completedFuture(exceptional(e));
+        if (translation.isExplain()) {
+            return completedFuture(explain(translation.ast()));
         }
 
-        RequestMessage request = buildRequest(gremlin, normalizedParameters, statement).create();
+        String gremlin = translation.translation();
+        RequestMessage request = buildRequest(gremlin, translation.bindings(normalizedParameters), statement).create();
 
         CompletableFuture<ResultSet> resultSetFuture = client.submitAsync(request);
-        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(ast.getReturnTypes());
         return resultSetFuture
-            .thenApply(ResultSet::iterator)
-            .thenApply(resultIterator -> new CypherResultSet(resultIterator, returnNormalizer::normalize));
+            .thenApply(resultSet -> new CypherResultSet(resultSet, translation.returnNormalizer()::normalize));
     }
 
     private static RequestMessage.Builder buildRequest(String query, Map<String, Object> normalizedParameters, CypherStatement statement) {
@@ -15,31 +15,51 @@
  */
 package org.opencypher.gremlin.client;
 
-import static java.util.concurrent.CompletableFuture.completedFuture;
-import static java.util.stream.Collectors.toList;
 import static org.opencypher.gremlin.client.CommonResultSets.exceptional;
 import static org.opencypher.gremlin.client.CommonResultSets.explain;
 import static org.opencypher.gremlin.translation.StatementOption.EXPLAIN;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import org.apache.tinkerpop.gremlin.driver.Result;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.ir.TranslationWriter;
+import org.opencypher.gremlin.translation.ir.model.GremlinStep;
 import org.opencypher.gremlin.translation.translator.Translator;
 import org.opencypher.gremlin.traversal.ParameterNormalizer;
+import org.opencypher.gremlin.traversal.PreparedTraversal;
+import org.opencypher.gremlin.traversal.PreparedTraversalCache;
+import org.opencypher.gremlin.traversal.ProcedureContext;
 import org.opencypher.gremlin.traversal.ReturnNormalizer;
+import scala.collection.Seq;
 
 final class InMemoryCypherGremlinClient implements CypherGremlinClient {
 
+    private static final String TRANSLATOR_DEFINITION = "gremlin+cfog_server_extensions";
+
     private final GraphTraversalSource gts;
+    private final Executor executor;
+    private final PreparedTraversalCache preparedTraversals;
 
     InMemoryCypherGremlinClient(GraphTraversalSource gts) {
+        this(gts, Runnable::run);
+    }
+
+    InMemoryCypherGremlinClient(GraphTraversalSource gts, Executor executor) {
+        this(gts, executor, new PreparedTraversalCache(0));
+    }
+
+    InMemoryCypherGremlinClient(GraphTraversalSource gts, Executor executor, PreparedTraversalCache preparedTraversals) {
         this.gts = gts;
+        this.executor = executor;
+        this.preparedTraversals = preparedTraversals;
     }
 
     @Override
@@ -49,26 +69,77 @@ final class InMemoryCypherGremlinClient implements CypherGremlinClient {
 
     @Override
     public CompletableFuture<CypherResultSet> submitAsync(CypherStatement statement) {
+        return CompletableFuture.supplyAsync(() -> submitSync(statement), executor);
+    }
+
+    private CypherResultSet submitSync(CypherStatement statement) {
         Map<String, Object> normalizedParameters = ParameterNormalizer.normalize(statement.parameters());
+        PreparedTraversal prepared = preparedTraversals.get(gts, TRANSLATOR_DEFINITION, statement.query(), normalizedParameters);
+        if (prepared != null) {
+            GraphTraversal<?, ?> traversal;
+            try {
+                traversal = prepared.traversal(normalizedParameters, this::translator);
+            } catch (Exception e) {
+                return exceptional(e);
+            }
+            return execute(traversal, prepared.returnNormalizer(), prepared.isUpdating());
+        }
+
         CypherAst ast;
         try {
             ast = CypherAst.parse(statement.query(), normalizedParameters);
         } catch (Exception e) {
-            return completedFuture(exceptional(e));
+            return exceptional(e);
         }
 
         if (ast.getOptions().contains(EXPLAIN)) {
-            return completedFuture(explain(ast));
+            return explain(ast);
+        }
+
+        GraphTraversal<?, ?> traversal;
+        try {
+            Translator<GraphTraversal, P> translator = translator();
+            if (preparedTraversals.isEnabled()) {
+                Seq<GremlinStep> ir = ast.translate(translator.flavor(), translator.features(), ProcedureContext.empty());
+                prepared = PreparedTraversal.prepare(ir, ast, normalizedParameters, translator);
+                if (prepared != null) {
+                    preparedTraversals.put(gts, TRANSLATOR_DEFINITION, statement.query(), normalizedParameters, prepared);
+                    traversal = prepared.traversal(normalizedParameters, this::translator);
+                    return execute(traversal, prepared.returnNormalizer(), prepared.isUpdating());
+                }
+                traversal = TranslationWriter.write(ir, translator, normalizedParameters);
+            } else {
+                traversal = ast.buildTranslation(translator);
+            }
+            traversal.asAdmin().applyStrategies();
+        } catch (Exception e) {
+            return exceptional(e);
         }
 
+        return execute(traversal, ReturnNormalizer.create(ast.getReturnTypes()), ast.isUpdating());
+    }
+
+    private Translator<GraphTraversal, P> translator() {
         DefaultGraphTraversal g = new DefaultGraphTraversal(gts.clone());
-        Translator<GraphTraversal, P> translator = Translator.builder().traversal(g).enableCypherExtensions().build();
-        GraphTraversal<?, ?> traversal = ast.buildTranslation(translator);
-        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(ast.getReturnTypes());
-        List<Result> results = traversal.toStream()
-            .map(returnNormalizer::normalize)
-            .map(Result::new)
-            .collect(toList());
-        return completedFuture(new CypherResultSet(results.iterator()));
+        return Translator.builder().traversal(g).enableCypherExtensions().build();
+    }
+
+    /**
+     * Read-only queries are streamed as the result set is consumed.
+     * Updating queries are executed eagerly, so that their changes are applied even if results are never read.
+     */
+    private static CypherResultSet execute(GraphTraversal<?, ?> traversal, ReturnNormalizer returnNormalizer, boolean updating) {
+        TraversalResultIterator resultIterator = new TraversalResultIterator(traversal);
+        if (!updating) {
+            return new CypherResultSet(resultIterator, returnNormalizer::normalize, resultIterator::close);
+        }
+
+        List<Result> results = new ArrayList<>();
+        try {
+            resultIterator.forEachRemaining(results::add);
+        } catch (Exception e) {
+            return exceptional(e);
+        }
+        return new CypherResultSet(results.iterator(), returnNormalizer::normalize);
     }
 }
@@ -15,21 +15,38 @@
  */
 package org.opencypher.gremlin.client;
 
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.ResultSet;
 import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.opencypher.gremlin.traversal.CompactRows;
 
 final class OpProcessorCypherGremlinClient implements CypherGremlinClient {
 
     private static final String CYPHER_OP_PROCESSOR_NAME = "cypher";
+    private static final String OPS_OPEN_CURSOR = "openCursor";
+    private static final String OPS_FETCH_CURSOR = "fetchCursor";
+    private static final String OPS_CLOSE_CURSOR = "closeCursor";
+    private static final String ARGS_CURSOR_ID = "cursorId";
+    private static final String ARGS_PAGE_SIZE = "pageSize";
+    private static final String ATTRIBUTE_HAS_MORE = "hasMore";
 
     private final Client client;
+    private final boolean compactResults;
 
     OpProcessorCypherGremlinClient(Client client) {
+        this(client, false);
+    }
+
+    OpProcessorCypherGremlinClient(Client client, boolean compactResults) {
         this.client = client;
+        this.compactResults = compactResults;
     }
 
     @Override
@@ -39,18 +56,34 @@ final class OpProcessorCypherGremlinClient implements CypherGremlinClient {
 
     @Override
     public CompletableFuture<CypherResultSet> submitAsync(CypherStatement statement) {
-        RequestMessage requestMessage = buildRequest(statement).create();
-        CompletableFuture<ResultSet> resultSetFuture = client.submitAsync(requestMessage);
+        RequestMessage.Builder request = buildRequest(statement);
+        if (compactResults) {
+            request.add(CompactRows.ARGS_RESULT_ENCODING, CompactRows.COMPACT_ENCODING);
+        }
+        CompletableFuture<ResultSet> resultSetFuture = client.submitAsync(request.create());
 
+        if (compactResults) {
+            CompactResultDecoder decoder = new CompactResultDecoder();
+            return resultSetFuture
+                .thenApply(resultSet -> new CypherResultSet(resultSet, decoder, CypherResultSet::castToMap));
+        }
         return resultSetFuture
-            .thenApply(ResultSet::iterator)
-            .thenApply(CypherResultSet::new);
+            .thenApply(resultSet -> new CypherResultSet(resultSet, CypherResultSet::castToMap));
+    }
+
+    @Override
+    public CypherCursor cursor(CypherStatement statement, int pageSize) {
+        return new CypherCursor(new ServerPageSource(statement), pageSize);
     }
 
     private static RequestMessage.Builder buildRequest(CypherStatement statement) {
+        return buildRequest(Tokens.OPS_EVAL, statement);
+    }
+
+    private static RequestMessage.Builder buildRequest(String op, CypherStatement statement) {
         Map<String, ?> parameters = statement.parameters();
 
-        RequestMessage.Builder request = RequestMessage.build(Tokens.OPS_EVAL)
+        RequestMessage.Builder request = RequestMessage.build(op)
             .processor(CYPHER_OP_PROCESSOR_NAME)
             .add(Tokens.ARGS_GREMLIN, statement.query());
 
@@ -62,4 +95,48 @@ final class OpProcessorCypherGremlinClient implements CypherGremlinClient {
 
         return request;
     }
+
+    /**
+     * Server-side cursors are bound to a session, so that pages can be fetched over any pooled connection.
+     */
+    private final class ServerPageSource implements CypherCursor.PageSource {
+        private final CypherStatement statement;
+        private final String session = UUID.randomUUID().toString();
+        private String cursorId;
+
+        private ServerPageSource(CypherStatement statement) {
+            this.statement = statement;
+        }
+
+        @Override
+        public CypherCursor.Page fetch(int pageSize) {
+            RequestMessage.Builder request = cursorId == null
+                ? buildRequest(OPS_OPEN_CURSOR, statement)
+                : RequestMessage.build(OPS_FETCH_CURSOR)
+                .processor(CYPHER_OP_PROCESSOR_NAME)
+                .add(ARGS_CURSOR_ID, cursorId);
+            request.add(ARGS_PAGE_SIZE, pageSize)
+                .add(Tokens.ARGS_SESSION, session);
+
+            ResultSet resultSet = client.submitAsync(request.create()).join();
+            List<Map<String, Object>> rows = resultSet.all().join().stream()
+                .map(result -> CypherResultSet.castToMap(result.getObject()))
+                .collect(toList());
+            Map<String, Object> attributes = resultSet.statusAttributes().join();
+            cursorId = String.valueOf(attributes.get(ARGS_CURSOR_ID));
+            return new CypherCursor.Page(rows, Boolean.TRUE.equals(attributes.get(ATTRIBUTE_HAS_MORE)));
+        }
+
+        @Override
+        public void close() {
+            if (cursorId != null) {
+                RequestMessage request = RequestMessage.build(OPS_CLOSE_CURSOR)
+                    .processor(CYPHER_OP_PROCESSOR_NAME)
+                    .add(ARGS_CURSOR_ID, cursorId)
+                    .add(Tokens.ARGS_SESSION, session)
+                    .create();
+                client.submitAsync(request).thenCompose(ResultSet::all).join();
+            }
+        }
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.client;
+
+import static java.util.stream.Collectors.toList;
+import static org.opencypher.gremlin.client.CommonResultSets.exceptional;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Submits a sequence of statements keeping a bounded number of requests in flight.
+ * <p>
+ * A request is considered to be in flight until all of its results are received by the client.
+ * Statements are translated on the provided executor, so translation of subsequent statements
+ * overlaps with execution of the preceding ones.
+ * <p>
+ * Requests that complete synchronously, e.g. with a direct executor and an in-memory client,
+ * don't submit the next statement recursively: freed slots are refilled in a loop by the thread
+ * that is already submitting.
+ * <p>
+ * If a statement can not be submitted, e.g. the executor rejects it or the statement iterator fails,
+ * the submission completes exceptionally and no further statements are submitted.
+ *
+ * @see CypherGremlinClient#submitAll(Iterable, int)
+ */
+final class PipelinedSubmission {
+    private final CypherGremlinClient client;
+    private final Iterator<? extends CypherStatement> statements;
+    private final Executor executor;
+
+    private final List<CompletableFuture<CypherResultSet>> results = new ArrayList<>();
+    private final CompletableFuture<List<CypherResultSet>> completion = new CompletableFuture<>();
+    private int inFlight;
+    private int freeSlots;
+    private boolean submitting;
+
+    PipelinedSubmission(CypherGremlinClient client, Iterable<? extends CypherStatement> statements, Executor executor) {
+        this.client = client;
+        this.statements = statements.iterator();
+        this.executor = executor;
+    }
+
+    CompletableFuture<List<CypherResultSet>> start(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Maximum number of requests in flight should be positive, got: " + maxInFlight);
+        }
+        release(maxInFlight);
+        return completion;
+    }
+
+    private void release(int slots) {
+        synchronized (this) {
+            freeSlots += slots;
+            if (submitting || completion.isDone()) {
+                return;
+            }
+            submitting = true;
+        }
+        while (true) {
+            synchronized (this) {
+                if (freeSlots == 0 || completion.isDone()) {
+                    submitting = false;
+                    return;
+                }
+                freeSlots--;
+            }
+            try {
+                submitNext();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    submitting = false;
+                }
+                completion.completeExceptionally(e);
+                return;
+            }
+        }
+    }
+
+    private void submitNext() {
+        CypherStatement statement;
+        CompletableFuture<CypherResultSet> result = new CompletableFuture<>();
+        synchronized (this) {
+            if (!statements.hasNext()) {
+                if (inFlight == 0) {
+                    complete();
+                }
+                return;
+            }
+            statement = statements.next();
+            results.add(result);
+            inFlight++;
+        }
+
+        CompletableFuture
+            .supplyAsync(() -> client.submitAsync(statement), executor)
+            .thenCompose(Function.identity())
+            .handle((resultSet, throwable) -> throwable == null ? resultSet : exceptional(unwrap(throwable)))
+            .thenCompose(resultSet -> {
+                result.complete(resultSet);
+                return resultSet.received();
+            })
+            .whenComplete((ignored, throwable) -> {
+                synchronized (this) {
+                    inFlight--;
+                }
+                release(1);
+            });
+    }
+
+    private void complete() {
+        List<CypherResultSet> resultSets = results.stream()
+            .map(CompletableFuture::join)
+            .collect(toList());
+        completion.complete(resultSets);
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+}
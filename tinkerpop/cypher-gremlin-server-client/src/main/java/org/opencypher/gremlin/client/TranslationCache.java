@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.client;
+
+import static java.util.Collections.emptyMap;
+import static org.opencypher.gremlin.translation.StatementOption.EXPLAIN;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFeature;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+import org.opencypher.gremlin.traversal.ReturnNormalizer;
+
+/**
+ * A least recently used cache of client-side Cypher to Gremlin translations.
+ * <p>
+ * Translations are keyed by query text, translator configuration and parameter names.
+ * Only translations that refer to parameters as bindings are cached,
+ * so a cache hit skips parsing and translation, and only attaches the new parameter values.
+ * <p>
+ * Translators from the same flavor instance share cache entries,
+ * so prefer {@link CypherGremlinClient#translating(org.apache.tinkerpop.gremlin.driver.Client, TranslatorFlavor, TranslationCache)}
+ * and {@link CypherGremlinClient#bytecode(org.apache.tinkerpop.gremlin.driver.Client, TranslatorFlavor, TranslationCache)}
+ * over custom translator suppliers that create a new flavor for each translator.
+ * <p>
+ * This class is thread-safe, and can be shared between clients.
+ */
+public final class TranslationCache {
+
+    private static final TranslationCache NONE = new TranslationCache(0);
+
+    private final int maxSize;
+    private final Map<Key, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder savedNanos = new LongAdder();
+
+    /**
+     * Creates a translation cache.
+     *
+     * @param maxSize maximum number of cached translations
+     */
+    public TranslationCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Cache size should not be negative, got: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > TranslationCache.this.maxSize;
+            }
+        };
+    }
+
+    static TranslationCache none() {
+        return NONE;
+    }
+
+    /**
+     * Returns the number of lookups that reused a cached translation.
+     *
+     * @return hit count
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that required a translation.
+     *
+     * @return miss count
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the ratio of lookups that reused a cached translation.
+     *
+     * @return hit ratio between 0 and 1, or 0 if there were no lookups
+     */
+    public double hitRatio() {
+        long hitCount = hitCount();
+        long total = hitCount + missCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Returns the total parsing and translation time that cache hits saved,
+     * as measured when the reused translations were created.
+     *
+     * @param unit time unit
+     * @return saved translation time
+     */
+    public long translationTimeSaved(TimeUnit unit) {
+        return unit.convert(savedNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the number of cached translations.
+     *
+     * @return cache size
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Removes all cached translations. Metrics are not reset.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Translates a query, or reuses a cached translation.
+     *
+     * @param compiler prepares a translation for reuse, e.g. resolves binding positions
+     */
+    @SuppressWarnings("unchecked")
+    <T, P, R> Translation<R> translate(String query,
+                                       Map<String, Object> parameters,
+                                       Supplier<Translator<T, P>> translatorSupplier,
+                                       Function<T, R> compiler) {
+        Translator<T, P> translator = translatorSupplier.get();
+        if (maxSize == 0) {
+            CypherAst ast = parse(query, parameters, translator);
+            if (ast.getOptions().contains(EXPLAIN)) {
+                return Translation.explain(ast);
+            }
+            ReturnNormalizer returnNormalizer = ReturnNormalizer.create(ast.getReturnTypes());
+            R translation = compiler.apply(ast.buildTranslation(translator));
+            return new Translation<>(ast, translation, returnNormalizer, ast.getExtractedParameters());
+        }
+
+        Key key = new Key(query, translator, parameters.keySet());
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && entry.template != null) {
+            hits.increment();
+            savedNanos.add(entry.nanos);
+            return new Translation<>(null, (R) entry.template, entry.returnNormalizer, entry.extractedParameters);
+        }
+
+        misses.increment();
+        long start = System.nanoTime();
+        CypherAst ast = parse(query, parameters, translator);
+        if (ast.getOptions().contains(EXPLAIN)) {
+            return Translation.explain(ast);
+        }
+        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(ast.getReturnTypes());
+        Map<String, Object> extractedParameters = ast.getExtractedParameters();
+        if (entry != null) {
+            R translation = compiler.apply(ast.buildTranslation(translator));
+            return new Translation<>(ast, translation, returnNormalizer, extractedParameters);
+        }
+
+        Optional<R> template = ast.buildReusableTranslation(translator).map(compiler);
+        R translation = template.isPresent()
+            ? template.get()
+            : compiler.apply(ast.buildTranslation(translatorSupplier.get()));
+        Entry created = new Entry(template.orElse(null), returnNormalizer, extractedParameters, System.nanoTime() - start);
+        synchronized (entries) {
+            entries.put(key, created);
+        }
+        return new Translation<>(ast, translation, returnNormalizer, extractedParameters);
+    }
+
+    private static CypherAst parse(String query, Map<String, Object> parameters, Translator<?, ?> translator) {
+        if (translator.isEnabled(TranslatorFeature.EXTRACT_LITERALS)) {
+            return CypherAst.parseExtractingLiterals(query, parameters);
+        }
+        return CypherAst.parse(query, parameters);
+    }
+
+    static final class Translation<T> {
+        private final CypherAst ast;
+        private final T translation;
+        private final ReturnNormalizer returnNormalizer;
+        private final Map<String, Object> extractedParameters;
+
+        private Translation(CypherAst ast,
+                            T translation,
+                            ReturnNormalizer returnNormalizer,
+                            Map<String, Object> extractedParameters) {
+            this.ast = ast;
+            this.translation = translation;
+            this.returnNormalizer = returnNormalizer;
+            this.extractedParameters = extractedParameters;
+        }
+
+        private static <T> Translation<T> explain(CypherAst ast) {
+            return new Translation<>(ast, null, null, emptyMap());
+        }
+
+        /**
+         * Parsed query, or {@code null} if the translation was reused.
+         */
+        CypherAst ast() {
+            return ast;
+        }
+
+        boolean isExplain() {
+            return translation == null;
+        }
+
+        /**
+         * Translation, which may refer to the parameter values of another execution.
+         */
+        T translation() {
+            return translation;
+        }
+
+        ReturnNormalizer returnNormalizer() {
+            return returnNormalizer;
+        }
+
+        /**
+         * Statement parameters, along with literals extracted from the query.
+         */
+        Map<String, Object> bindings(Map<String, Object> parameters) {
+            if (extractedParameters.isEmpty()) {
+                return parameters;
+            }
+            Map<String, Object> bindings = new HashMap<>(parameters);
+            bindings.putAll(extractedParameters);
+            return bindings;
+        }
+    }
+
+    private static final class Entry {
+        private final Object template;
+        private final ReturnNormalizer returnNormalizer;
+        private final Map<String, Object> extractedParameters;
+        private final long nanos;
+
+        private Entry(Object template, ReturnNormalizer returnNormalizer, Map<String, Object> extractedParameters, long nanos) {
+            this.template = template;
+            this.returnNormalizer = returnNormalizer;
+            this.extractedParameters = extractedParameters;
+            this.nanos = nanos;
+        }
+    }
+
+    private static final class Key {
+        private final String query;
+        private final TranslatorFlavor flavor;
+        private final Set<TranslatorFeature> features;
+        private final Class<?> predicates;
+        private final Class<?> bindings;
+        private final Set<String> parameterNames;
+        private final int hashCode;
+
+        private Key(String query, Translator<?, ?> translator, Set<String> parameterNames) {
+            this.query = query;
+            this.flavor = translator.flavor();
+            this.features = translator.features();
+            this.predicates = translator.predicates().getClass();
+            this.bindings = translator.bindings().getClass();
+            this.parameterNames = new HashSet<>(parameterNames);
+            this.hashCode = Objects.hash(query, flavor, features, predicates, bindings, this.parameterNames);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return query.equals(key.query) &&
+                flavor.equals(key.flavor) &&
+                features.equals(key.features) &&
+                predicates.equals(key.predicates) &&
+                bindings.equals(key.bindings) &&
+                parameterNames.equals(key.parameterNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.client;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+
+/**
+ * This is an iterator adapter that lazily pulls results from an in-process traversal
+ * and closes the traversal once it is exhausted or explicitly closed.
+ */
+final class TraversalResultIterator implements Iterator<Result> {
+
+    private final Traversal<?, ?> traversal;
+    private boolean closed;
+
+    TraversalResultIterator(Traversal<?, ?> traversal) {
+        this.traversal = traversal;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        boolean hasNext;
+        try {
+            hasNext = traversal.hasNext();
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        if (!hasNext) {
+            close();
+        }
+        return hasNext;
+    }
+
+    @Override
+    public Result next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return new Result(traversal.next());
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            traversal.close();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.op.cypher;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import io.netty.channel.Channel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.slf4j.Logger;
+
+/**
+ * Registry of open server-side cursors.
+ * <p>
+ * A cursor keeps a translated traversal alive between requests, so subsequent pages of results
+ * can be fetched without re-running the query. Cursors are closed when the connection that opened them
+ * is closed, when all results are fetched, or after an idle timeout.
+ * <p>
+ * A cursor can only be used by its owner: the session that opened it or, for sessionless requests,
+ * the connection that opened it.
+ * <p>
+ * At most a single page of results is buffered per cursor, at any time,
+ * in addition to whatever the traversal itself holds (e.g. for ordering or aggregation).
+ */
+final class CypherCursors {
+    private static final Logger logger = getLogger(CypherCursors.class);
+
+    private final Map<UUID, Cursor> cursors = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> eviction;
+
+    /**
+     * Registers a new cursor.
+     *
+     * @param owner      session id or connection id of the cursor owner
+     * @param channel    connection that opens the cursor
+     * @param traversal  translated traversal
+     * @param results    normalized results of the traversal
+     * @param maxCursors maximum number of open cursors
+     * @return new cursor
+     * @throws IllegalStateException if maximum number of open cursors is reached, the traversal is closed then
+     */
+    Cursor open(String owner, Channel channel, Traversal<?, ?> traversal, Iterator<?> results, int maxCursors) {
+        synchronized (cursors) {
+            if (cursors.size() >= maxCursors) {
+                closeTraversal(traversal);
+                throw new IllegalStateException("Maximum number of open cursors reached: " + maxCursors);
+            }
+            Cursor cursor = new Cursor(UUID.randomUUID(), owner, traversal, results);
+            cursors.put(cursor.id, cursor);
+            channel.closeFuture().addListener(future -> close(cursor.id));
+            return cursor;
+        }
+    }
+
+    /**
+     * Looks up an open cursor.
+     *
+     * @param id    cursor id
+     * @param owner session id or connection id of the requester
+     * @return cursor
+     * @throws IllegalArgumentException if the cursor does not exist or belongs to a different owner
+     */
+    Cursor get(UUID id, String owner) {
+        Cursor cursor = cursors.get(id);
+        if (cursor == null || !Objects.equals(cursor.owner, owner)) {
+            throw new IllegalArgumentException("Cursor not found: " + id);
+        }
+        return cursor;
+    }
+
+    void close(UUID id) {
+        Cursor cursor = cursors.remove(id);
+        if (cursor != null) {
+            cursor.close();
+        }
+    }
+
+    int size() {
+        return cursors.size();
+    }
+
+    /**
+     * Estimates the number of rows buffered by open cursors,
+     * as a sum of the last requested page sizes.
+     *
+     * @return number of rows
+     */
+    long bufferedRows() {
+        long rows = 0;
+        for (Cursor cursor : cursors.values()) {
+            rows += cursor.pageSize;
+        }
+        return rows;
+    }
+
+    /**
+     * Schedules periodic closing of idle cursors, once.
+     *
+     * @param executor    scheduler
+     * @param idleTimeout idle timeout in milliseconds
+     */
+    synchronized void scheduleEviction(ScheduledExecutorService executor, long idleTimeout) {
+        if (idleTimeout > 0 && eviction == null) {
+            long period = Math.max(idleTimeout / 2, 1);
+            eviction = executor.scheduleAtFixedRate(() -> evictIdle(idleTimeout), period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Cancels idle cursor eviction and closes all open cursors.
+     */
+    synchronized void closeAll() {
+        if (eviction != null) {
+            eviction.cancel(false);
+            eviction = null;
+        }
+        for (UUID id : new ArrayList<>(cursors.keySet())) {
+            close(id);
+        }
+    }
+
+    void evictIdle(long idleTimeout) {
+        long now = System.currentTimeMillis();
+        List<UUID> idle = new ArrayList<>();
+        for (Cursor cursor : cursors.values()) {
+            if (now - cursor.lastAccess > idleTimeout) {
+                idle.add(cursor.id);
+            }
+        }
+        for (UUID id : idle) {
+            logger.info("Closing idle cursor {}", id);
+            close(id);
+        }
+    }
+
+    private static void closeTraversal(Traversal<?, ?> traversal) {
+        try {
+            traversal.close();
+        } catch (Exception e) {
+            logger.warn("Failed to close cursor traversal", e);
+        }
+    }
+
+    static final class Cursor {
+        private final UUID id;
+        private final String owner;
+        private final Traversal<?, ?> traversal;
+        private final Iterator<?> results;
+        private volatile long lastAccess = System.currentTimeMillis();
+        private volatile int pageSize;
+        private long fetched;
+        private boolean hasMore = true;
+
+        private Cursor(UUID id, String owner, Traversal<?, ?> traversal, Iterator<?> results) {
+            this.id = id;
+            this.owner = owner;
+            this.traversal = traversal;
+            this.results = results;
+        }
+
+        UUID id() {
+            return id;
+        }
+
+        /**
+         * Returns the graph that the cursor traversal runs on.
+         *
+         * @return graph, or an empty graph if the traversal is not bound to one
+         */
+        Graph graph() {
+            return traversal.asAdmin().getGraph().orElse(EmptyGraph.instance());
+        }
+
+        /**
+         * Fetches next page of results, and checks if there are more results after it.
+         *
+         * @param pageSize maximum number of results
+         * @return page of results
+         */
+        synchronized List<Object> fetch(int pageSize) {
+            lastAccess = System.currentTimeMillis();
+            this.pageSize = pageSize;
+            List<Object> page = new ArrayList<>(Math.min(pageSize, 1024));
+            while (page.size() < pageSize && results.hasNext()) {
+                page.add(results.next());
+            }
+            fetched += page.size();
+            hasMore = results.hasNext();
+            lastAccess = System.currentTimeMillis();
+            return page;
+        }
+
+        /**
+         * Checks if there were more results after the last fetched page.
+         *
+         * @return true if there are more results
+         */
+        synchronized boolean hasMore() {
+            return hasMore;
+        }
+
+        synchronized long fetched() {
+            return fetched;
+        }
+
+        private synchronized void close() {
+            closeTraversal(traversal);
+        }
+    }
+}
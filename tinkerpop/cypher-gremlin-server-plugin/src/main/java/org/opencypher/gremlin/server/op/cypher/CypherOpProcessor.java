@@ -15,20 +15,30 @@
  */
 package org.opencypher.gremlin.server.op.cypher;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static java.util.Optional.empty;
 import static org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode.SERVER_ERROR;
 import static org.opencypher.gremlin.translation.StatementOption.EXPLAIN;
+import static org.opencypher.gremlin.traversal.CompactRows.ARGS_RESULT_ENCODING;
+import static org.opencypher.gremlin.traversal.CompactRows.COMPACT_ENCODING;
 import static org.slf4j.LoggerFactory.getLogger;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
@@ -54,7 +64,11 @@ import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
 import org.opencypher.gremlin.translation.ir.TranslationWriter;
 import org.opencypher.gremlin.translation.ir.model.GremlinStep;
 import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFactory;
+import org.opencypher.gremlin.traversal.CompactRows;
 import org.opencypher.gremlin.traversal.ParameterNormalizer;
+import org.opencypher.gremlin.traversal.PreparedTraversal;
+import org.opencypher.gremlin.traversal.PreparedTraversalCache;
 import org.opencypher.gremlin.traversal.ProcedureContext;
 import org.opencypher.gremlin.traversal.ReturnNormalizer;
 import org.slf4j.Logger;
@@ -70,12 +84,62 @@ import scala.collection.Seq;
  *   "args": { "gremlin": "&lt;CYPHER QUERY&gt;" }
  * }
  * </pre>
+ * <p>
+ * Multiple statements can be executed in a single request and a single transaction with {@code batch} op:
+ * <pre>
+ * {
+ *   "requestId": "&lt;some UUID&gt;",
+ *   "op": "batch",
+ *   "processor": "cypher",
+ *   "args": { "statements": [{ "gremlin": "&lt;CYPHER QUERY&gt;", "bindings": { ... } }, ...] }
+ * }
+ * </pre>
+ * Results of each statement are returned as a single list of rows, in the order of statements,
+ * after the transaction is committed.
+ * <p>
+ * With {@code "resultEncoding": "compact"} argument, {@code eval} results are sent in a compact form,
+ * see {@link CompactRows}.
+ * <p>
+ * Large results can be fetched page by page with {@code openCursor}, {@code fetchCursor} and {@code closeCursor} ops.
+ * {@code openCursor} takes the same arguments as {@code eval} and an optional {@code pageSize};
+ * each response carries {@code cursorId} and {@code hasMore} status attributes.
+ * Only read-only queries can be executed with cursors.
+ * A cursor can be fetched and closed only within the {@code session} that opened it or,
+ * without a {@code session} argument, over the connection that opened it.
+ * Cursors are closed along with the connection that opened them.
  */
 public class CypherOpProcessor extends AbstractEvalOpProcessor {
     private static final String DEFAULT_TRANSLATOR_DEFINITION = "gremlin+cfog_server_extensions+inline_parameters";
 
+    public static final String OPS_BATCH = "batch";
+    public static final String OPS_OPEN_CURSOR = "openCursor";
+    public static final String OPS_FETCH_CURSOR = "fetchCursor";
+    public static final String OPS_CLOSE_CURSOR = "closeCursor";
+    public static final String ARGS_STATEMENTS = "statements";
+    public static final String ARGS_CURSOR_ID = "cursorId";
+    public static final String ARGS_PAGE_SIZE = "pageSize";
+    public static final String ATTRIBUTE_HAS_MORE = "hasMore";
+    public static final String ATTRIBUTE_FETCHED = "fetched";
+    public static final String ATTRIBUTE_OPEN_CURSORS = "openCursors";
+    public static final String ATTRIBUTE_BUFFERED_ROWS = "bufferedRows";
+
+    private static final String CONFIG_TRANSLATOR_DEFINITION = "translatorDefinition";
+    private static final String CONFIG_TRANSLATOR_FEATURES = "translatorFeatures";
+    private static final String CONFIG_MAX_CURSORS = "maxCursors";
+    private static final String CONFIG_MAX_PAGE_SIZE = "maxPageSize";
+    private static final String CONFIG_CURSOR_IDLE_TIMEOUT = "cursorIdleTimeout";
+    private static final String CONFIG_PREPARED_TRAVERSAL_CACHE_SIZE = "preparedTraversalCacheSize";
+    private static final int DEFAULT_MAX_CURSORS = 100;
+    private static final int DEFAULT_MAX_PAGE_SIZE = 10000;
+    private static final long DEFAULT_CURSOR_IDLE_TIMEOUT = 60000L;
+
     private static final Logger logger = getLogger(CypherOpProcessor.class);
 
+    private final CypherCursors cursors = new CypherCursors();
+    private final Map<String, TranslatorFactory<String, GroovyPredicate>> groovyTranslators = new ConcurrentHashMap<>();
+    private final Map<String, TranslatorFactory<GraphTraversal, P>> traversalTranslators = new ConcurrentHashMap<>();
+    private PreparedTraversalCache preparedTraversals;
+
     public CypherOpProcessor() {
         super(true);
     }
@@ -92,6 +156,27 @@ public class CypherOpProcessor extends AbstractEvalOpProcessor {
 
     @Override
     public Optional<ThrowingConsumer<Context>> selectOther(RequestMessage requestMessage) throws OpProcessorException {
+        if (OPS_BATCH.equals(requestMessage.getOp())) {
+            if (!(requestMessage.getArgs().get(ARGS_STATEMENTS) instanceof List)) {
+                throw opProcessorException(requestMessage,
+                    String.format("A message with [%s] op code requires a [%s] argument.", OPS_BATCH, ARGS_STATEMENTS));
+            }
+            return Optional.of(this::evalBatch);
+        }
+        if (OPS_OPEN_CURSOR.equals(requestMessage.getOp())) {
+            if (!requestMessage.optionalArgs(Tokens.ARGS_GREMLIN).isPresent()) {
+                throw opProcessorException(requestMessage,
+                    String.format("A message with [%s] op code requires a [%s] argument.", OPS_OPEN_CURSOR, Tokens.ARGS_GREMLIN));
+            }
+            return Optional.of(this::openCursor);
+        }
+        if (OPS_FETCH_CURSOR.equals(requestMessage.getOp()) || OPS_CLOSE_CURSOR.equals(requestMessage.getOp())) {
+            if (!requestMessage.optionalArgs(ARGS_CURSOR_ID).isPresent()) {
+                throw opProcessorException(requestMessage,
+                    String.format("A message with [%s] op code requires a [%s] argument.", requestMessage.getOp(), ARGS_CURSOR_ID));
+            }
+            return Optional.of(OPS_FETCH_CURSOR.equals(requestMessage.getOp()) ? this::fetchCursor : this::closeCursor);
+        }
         return empty();
     }
 
@@ -101,35 +186,202 @@ public class CypherOpProcessor extends AbstractEvalOpProcessor {
         logger.info("Cypher: {}", cypher.replaceAll("\n", " "));
 
         GraphTraversalSource gts = traversal(context);
-        DefaultGraphTraversal g = new DefaultGraphTraversal(gts.clone());
         Map<String, Object> parameters = ParameterNormalizer.normalize(getParameters(args));
-        ProcedureContext procedureContext = ProcedureContext.global();
-        CypherAst ast = CypherAst.parse(cypher, parameters, procedureContext.getSignatures());
-
         String translatorDefinition = getTranslatorDefinition(context);
+        PreparedTraversalCache preparedTraversals = preparedTraversals(context);
 
-        Translator<String, GroovyPredicate> stringTranslator = Translator.builder()
-            .gremlinGroovy()
-            .build(translatorDefinition);
+        PreparedTraversal prepared = preparedTraversals.get(gts, translatorDefinition, cypher, parameters);
+        Iterator normalizedTraversal;
+        if (prepared != null) {
+            GraphTraversal<?, ?> traversal = prepared.traversal(parameters, () -> traversalTranslator(translatorDefinition, gts));
+            normalizedTraversal = prepared.returnNormalizer().normalize(traversal);
+        } else {
+            ProcedureContext procedureContext = ProcedureContext.global();
+            CypherAst ast = CypherAst.parse(cypher, parameters, procedureContext.getSignatures());
+
+            Translator<String, GroovyPredicate> stringTranslator = groovyTranslators
+                .computeIfAbsent(translatorDefinition, TranslatorFactory::gremlinGroovy)
+                .get();
+
+            DefaultGraphTraversal g = new DefaultGraphTraversal(gts.clone());
+            Translator<GraphTraversal, P> traversalTranslator = traversalTranslator(translatorDefinition, g);
+
+            Seq<GremlinStep> ir = ast.translate(stringTranslator.flavor(), stringTranslator.features(), procedureContext);
+
+            String gremlin = TranslationWriter.write(ir, stringTranslator, parameters);
+            logger.info("Gremlin: {}", gremlin);
+
+            if (ast.getOptions().contains(EXPLAIN)) {
+                explainQuery(context, ast, gremlin);
+                return;
+            }
+
+            normalizedTraversal = normalizedResults(gts, translatorDefinition, cypher, parameters, ir, traversalTranslator, ast, preparedTraversals);
+        }
 
-        Translator<GraphTraversal, P> traversalTranslator = Translator.builder()
-            .traversal(g)
-            .build(translatorDefinition);
+        Iterator results = COMPACT_ENCODING.equals(args.get(ARGS_RESULT_ENCODING))
+            ? CompactRows.encode(normalizedTraversal)
+            : normalizedTraversal;
+        inTransaction(gts, () -> handleIterator(context, results));
+    }
 
-        Seq<GremlinStep> ir = ast.translate(stringTranslator.flavor(), stringTranslator.features(), procedureContext);
+    @SuppressWarnings("unchecked")
+    private void evalBatch(Context context) throws OpProcessorException {
+        List<Map<String, Object>> statements = (List<Map<String, Object>>) context.getRequestMessage().getArgs().get(ARGS_STATEMENTS);
+        logger.info("Cypher batch of {} statements", statements.size());
 
-        String gremlin = TranslationWriter.write(ir, stringTranslator, parameters);
-        logger.info("Gremlin: {}", gremlin);
+        GraphTraversalSource gts = traversal(context);
+        String translatorDefinition = getTranslatorDefinition(context);
+        ProcedureContext procedureContext = ProcedureContext.global();
+        PreparedTraversalCache preparedTraversals = preparedTraversals(context);
 
+        handleBatch(context, gts, statements, translatorDefinition, procedureContext, preparedTraversals);
+    }
+
+    private void openCursor(Context context) throws OpProcessorException {
+        Map<String, Object> args = context.getRequestMessage().getArgs();
+        String cypher = (String) args.get(Tokens.ARGS_GREMLIN);
+        logger.info("Cypher cursor: {}", cypher.replaceAll("\n", " "));
+
+        GraphTraversalSource gts = traversal(context);
+        Map<String, Object> parameters = ParameterNormalizer.normalize(getParameters(args));
+        ProcedureContext procedureContext = ProcedureContext.global();
+        CypherAst ast = CypherAst.parse(cypher, parameters, procedureContext.getSignatures());
         if (ast.getOptions().contains(EXPLAIN)) {
-            explainQuery(context, ast, gremlin);
-            return;
+            throw opProcessorException(context.getRequestMessage(), "EXPLAIN is not supported for cursors");
+        }
+        if (ast.isUpdating()) {
+            throw opProcessorException(context.getRequestMessage(), "Updating queries are not supported for cursors");
         }
 
+        DefaultGraphTraversal g = new DefaultGraphTraversal(gts.clone());
+        Translator<GraphTraversal, P> traversalTranslator = traversalTranslator(getTranslatorDefinition(context), g);
+        Seq<GremlinStep> ir = ast.translate(traversalTranslator.flavor(), traversalTranslator.features(), procedureContext);
         GraphTraversal<?, ?> traversal = TranslationWriter.write(ir, traversalTranslator, parameters);
-        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(ast.getReturnTypes());
-        Iterator normalizedTraversal = returnNormalizer.normalize(traversal);
-        inTransaction(gts, () -> handleIterator(context, normalizedTraversal));
+        Iterator normalizedTraversal = ReturnNormalizer.create(ast.getReturnTypes()).normalize(traversal);
+
+        Map<String, Object> config = getConfig(context);
+        int maxCursors = ((Number) config.getOrDefault(CONFIG_MAX_CURSORS, DEFAULT_MAX_CURSORS)).intValue();
+        long idleTimeout = ((Number) config.getOrDefault(CONFIG_CURSOR_IDLE_TIMEOUT, DEFAULT_CURSOR_IDLE_TIMEOUT)).longValue();
+        cursors.scheduleEviction(context.getScheduledExecutorService(), idleTimeout);
+
+        Channel channel = context.getChannelHandlerContext().channel();
+        String owner = getCursorOwner(context);
+        handleCursor(context, () -> cursors.open(owner, channel, traversal, normalizedTraversal, maxCursors), getPageSize(context));
+    }
+
+    private void fetchCursor(Context context) throws OpProcessorException {
+        UUID cursorId = getCursorId(context);
+        String owner = getCursorOwner(context);
+        handleCursor(context, () -> cursors.get(cursorId, owner), getPageSize(context));
+    }
+
+    private void closeCursor(Context context) throws OpProcessorException {
+        RequestMessage msg = context.getRequestMessage();
+        UUID cursorId = getCursorId(context);
+        try {
+            cursors.get(cursorId, getCursorOwner(context));
+        } catch (IllegalArgumentException e) {
+            throw opProcessorException(msg, e.getMessage());
+        }
+        cursors.close(cursorId);
+
+        context.getChannelHandlerContext().writeAndFlush(ResponseMessage.build(msg)
+            .code(ResponseStatusCode.NO_CONTENT)
+            .statusAttributes(singletonMap(ATTRIBUTE_OPEN_CURSORS, cursors.size()))
+            .create());
+    }
+
+    private Translator<GraphTraversal, P> traversalTranslator(String translatorDefinition, GraphTraversal g) {
+        return traversalTranslators
+            .computeIfAbsent(translatorDefinition, TranslatorFactory::traversal)
+            .get(g);
+    }
+
+    private Translator<GraphTraversal, P> traversalTranslator(String translatorDefinition, GraphTraversalSource gts) {
+        return traversalTranslator(translatorDefinition, new DefaultGraphTraversal(gts.clone()));
+    }
+
+    private UUID getCursorId(Context context) throws OpProcessorException {
+        RequestMessage msg = context.getRequestMessage();
+        Object cursorId = msg.getArgs().get(ARGS_CURSOR_ID);
+        try {
+            return cursorId instanceof UUID ? (UUID) cursorId : UUID.fromString(String.valueOf(cursorId));
+        } catch (IllegalArgumentException e) {
+            throw opProcessorException(msg, "Invalid cursor id: " + cursorId);
+        }
+    }
+
+    private String getCursorOwner(Context context) {
+        return context.getRequestMessage().optionalArgs(Tokens.ARGS_SESSION)
+            .map(String::valueOf)
+            .orElseGet(() -> context.getChannelHandlerContext().channel().id().asLongText());
+    }
+
+    private int getPageSize(Context context) throws OpProcessorException {
+        RequestMessage msg = context.getRequestMessage();
+        int maxPageSize = ((Number) getConfig(context).getOrDefault(CONFIG_MAX_PAGE_SIZE, DEFAULT_MAX_PAGE_SIZE)).intValue();
+        Object pageSize = msg.getArgs().getOrDefault(ARGS_PAGE_SIZE, context.getSettings().resultIterationBatchSize);
+        if (!(pageSize instanceof Number) || ((Number) pageSize).intValue() < 1) {
+            throw opProcessorException(msg, "Page size should be a positive number, got: " + pageSize);
+        }
+        return Math.min(((Number) pageSize).intValue(), maxPageSize);
+    }
+
+    private List<Object> executeStatement(GraphTraversalSource gts,
+                                          Map<String, Object> statement,
+                                          String translatorDefinition,
+                                          ProcedureContext procedureContext,
+                                          PreparedTraversalCache preparedTraversals) {
+        String cypher = (String) statement.get(Tokens.ARGS_GREMLIN);
+        logger.info("Cypher: {}", cypher.replaceAll("\n", " "));
+
+        Map<String, Object> parameters = ParameterNormalizer.normalize(getParameters(statement));
+        PreparedTraversal prepared = preparedTraversals.get(gts, translatorDefinition, cypher, parameters);
+        Iterator normalizedTraversal;
+        if (prepared != null) {
+            GraphTraversal<?, ?> traversal = prepared.traversal(parameters, () -> traversalTranslator(translatorDefinition, gts));
+            normalizedTraversal = prepared.returnNormalizer().normalize(traversal);
+        } else {
+            CypherAst ast = CypherAst.parse(cypher, parameters, procedureContext.getSignatures());
+            if (ast.getOptions().contains(EXPLAIN)) {
+                throw new IllegalArgumentException("EXPLAIN is not supported in batches");
+            }
+
+            DefaultGraphTraversal g = new DefaultGraphTraversal(gts.clone());
+            Translator<GraphTraversal, P> traversalTranslator = traversalTranslator(translatorDefinition, g);
+            Seq<GremlinStep> ir = ast.translate(traversalTranslator.flavor(), traversalTranslator.features(), procedureContext);
+            normalizedTraversal = normalizedResults(gts, translatorDefinition, cypher, parameters, ir, traversalTranslator, ast, preparedTraversals);
+        }
+
+        List<Object> rows = new ArrayList<>();
+        while (normalizedTraversal.hasNext()) {
+            rows.add(normalizedTraversal.next());
+        }
+        return rows;
+    }
+
+    /**
+     * Writes and normalizes a translated traversal, preparing it for reuse if prepared traversals are cached.
+     */
+    private Iterator normalizedResults(GraphTraversalSource gts,
+                                       String translatorDefinition,
+                                       String cypher,
+                                       Map<String, Object> parameters,
+                                       Seq<GremlinStep> ir,
+                                       Translator<GraphTraversal, P> traversalTranslator,
+                                       CypherAst ast,
+                                       PreparedTraversalCache preparedTraversals) {
+        PreparedTraversal prepared = preparedTraversals.isEnabled()
+            ? PreparedTraversal.prepare(ir, ast, parameters, traversalTranslator)
+            : null;
+        if (prepared == null) {
+            GraphTraversal<?, ?> traversal = TranslationWriter.write(ir, traversalTranslator, parameters);
+            return ReturnNormalizer.create(ast.getReturnTypes()).normalize(traversal);
+        }
+        preparedTraversals.put(gts, translatorDefinition, cypher, parameters, prepared);
+        GraphTraversal<?, ?> traversal = prepared.traversal(parameters, () -> traversalTranslator(translatorDefinition, gts));
+        return prepared.returnNormalizer().normalize(traversal);
     }
 
     private void inTransaction(GraphTraversalSource gts, Runnable runnable) {
@@ -152,6 +404,27 @@ public class CypherOpProcessor extends AbstractEvalOpProcessor {
         }
     }
 
+    /**
+     * Runs a cursor page fetch in its own transaction, as cursors span multiple requests.
+     */
+    private <R> R inTransaction(Graph graph, Callable<R> callable) throws Exception {
+        if (!graph.features().graph().supportsTransactions()) {
+            return callable.call();
+        }
+
+        try {
+            graph.tx().open();
+            R result = callable.call();
+            graph.tx().commit();
+            return result;
+        } catch (Exception e) {
+            if (graph.tx().isOpen()) {
+                graph.tx().rollback();
+            }
+            throw e;
+        }
+    }
+
     private GraphTraversalSource traversal(Context context) throws OpProcessorException {
         RequestMessage msg = context.getRequestMessage();
         GraphManager graphManager = context.getGraphManager();
@@ -221,6 +494,125 @@ public class CypherOpProcessor extends AbstractEvalOpProcessor {
 
     }
 
+    private void handleBatch(Context context,
+                             GraphTraversalSource gts,
+                             List<Map<String, Object>> statements,
+                             String translatorDefinition,
+                             ProcedureContext procedureContext,
+                             PreparedTraversalCache preparedTraversals) {
+        RequestMessage msg = context.getRequestMessage();
+        ChannelHandlerContext ctx = context.getChannelHandlerContext();
+
+        execute(context, () -> {
+            Graph graph = gts.getGraph();
+            boolean supportsTransactions = graph.features().graph().supportsTransactions();
+            List<List<Object>> results = new ArrayList<>(statements.size());
+            int index = 0;
+            try {
+                if (supportsTransactions) {
+                    graph.tx().open();
+                }
+
+                for (Map<String, Object> statement : statements) {
+                    results.add(executeStatement(gts, statement, translatorDefinition, procedureContext, preparedTraversals));
+                    index++;
+                }
+            } catch (Exception ex) {
+                rollbackBatch(graph, supportsTransactions);
+                String errorMessage = String.format("Batch statement %d failed: %s", index, getErrorMessage(msg, ex));
+                logger.error("Error during batch evaluation", ex);
+                writeError(ctx, msg, errorMessage, ex);
+                return;
+            }
+
+            if (supportsTransactions) {
+                try {
+                    graph.tx().commit();
+                } catch (Exception ex) {
+                    rollbackBatch(graph, true);
+                    String errorMessage = String.format("Batch commit failed: %s", getErrorMessage(msg, ex));
+                    logger.error("Error during batch commit", ex);
+                    writeError(ctx, msg, errorMessage, ex);
+                    return;
+                }
+            }
+
+            for (int i = 0; i < results.size() - 1; i++) {
+                ctx.writeAndFlush(ResponseMessage.build(msg)
+                    .code(ResponseStatusCode.PARTIAL_CONTENT)
+                    .result(singletonList(results.get(i)))
+                    .create());
+            }
+            ctx.writeAndFlush(ResponseMessage.build(msg)
+                .code(results.isEmpty() ? ResponseStatusCode.NO_CONTENT : ResponseStatusCode.SUCCESS)
+                .result(results.isEmpty() ? emptyList() : singletonList(results.get(results.size() - 1)))
+                .create());
+        });
+    }
+
+    private static void rollbackBatch(Graph graph, boolean supportsTransactions) {
+        if (supportsTransactions && graph.tx().isOpen()) {
+            graph.tx().rollback();
+        }
+    }
+
+    private void handleCursor(Context context, Callable<CypherCursors.Cursor> cursorSupplier, int pageSize) {
+        RequestMessage msg = context.getRequestMessage();
+        ChannelHandlerContext ctx = context.getChannelHandlerContext();
+
+        execute(context, () -> {
+            CypherCursors.Cursor cursor = null;
+            try {
+                cursor = cursorSupplier.call();
+                CypherCursors.Cursor opened = cursor;
+                List<Object> page = inTransaction(cursor.graph(), () -> opened.fetch(pageSize));
+                boolean hasMore = cursor.hasMore();
+                if (!hasMore) {
+                    cursors.close(cursor.id());
+                }
+
+                Map<String, Object> attributes = new HashMap<>();
+                attributes.put(ARGS_CURSOR_ID, cursor.id().toString());
+                attributes.put(ATTRIBUTE_HAS_MORE, hasMore);
+                attributes.put(ATTRIBUTE_FETCHED, cursor.fetched());
+                attributes.put(ATTRIBUTE_OPEN_CURSORS, cursors.size());
+                attributes.put(ATTRIBUTE_BUFFERED_ROWS, cursors.bufferedRows());
+
+                ctx.writeAndFlush(ResponseMessage.build(msg)
+                    .code(ResponseStatusCode.SUCCESS)
+                    .result(page)
+                    .statusAttributes(attributes)
+                    .create());
+            } catch (Exception ex) {
+                if (cursor != null) {
+                    cursors.close(cursor.id());
+                }
+                logger.error("Error during cursor iteration", ex);
+                writeError(ctx, msg, getErrorMessage(msg, ex), ex);
+            }
+        });
+    }
+
+    private void execute(Context context, Runnable task) {
+        RequestMessage msg = context.getRequestMessage();
+        final long timeout = msg.getArgs().containsKey(Tokens.ARGS_SCRIPT_EVAL_TIMEOUT)
+            ? ((Number) msg.getArgs().get(Tokens.ARGS_SCRIPT_EVAL_TIMEOUT)).longValue()
+            : context.getSettings().scriptEvaluationTimeout;
+
+        final Future<?> executionFuture = context.getGremlinExecutor().getExecutorService().submit(task);
+        if (timeout > 0) {
+            context.getScheduledExecutorService().schedule(() -> executionFuture.cancel(true), timeout, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void writeError(ChannelHandlerContext ctx, RequestMessage msg, String errorMessage, Exception ex) {
+        ctx.writeAndFlush(ResponseMessage.build(msg)
+            .code(SERVER_ERROR)
+            .statusMessage(errorMessage)
+            .statusAttributeException(ex)
+            .create());
+    }
+
     private String getErrorMessage(RequestMessage msg, Exception ex) {
         if (ex instanceof InterruptedException || ex instanceof TraversalInterruptedException) {
             return String.format("A timeout occurred during traversal evaluation of [%s] - consider increasing the limit given to scriptEvaluationTimeout", msg);
@@ -246,7 +638,7 @@ public class CypherOpProcessor extends AbstractEvalOpProcessor {
 
     @Override
     public void close() {
-        // do nothing = no resources to release
+        cursors.closeAll();
     }
 
     @SuppressWarnings("unchecked")
@@ -258,20 +650,37 @@ public class CypherOpProcessor extends AbstractEvalOpProcessor {
         }
     }
 
-    private String getTranslatorDefinition(Context context) {
+    private Map<String, Object> getConfig(Context context) {
         Map<String, Object> config = context.getSettings().optionalProcessor(CypherOpProcessor.class)
             .map(p -> p.config)
             .orElse(emptyMap());
 
         HashSet<String> properties = new HashSet<>(config.keySet());
-        properties.remove("translatorDefinition");
-        properties.remove("translatorFeatures");
+        properties.remove(CONFIG_TRANSLATOR_DEFINITION);
+        properties.remove(CONFIG_TRANSLATOR_FEATURES);
+        properties.remove(CONFIG_MAX_CURSORS);
+        properties.remove(CONFIG_MAX_PAGE_SIZE);
+        properties.remove(CONFIG_CURSOR_IDLE_TIMEOUT);
+        properties.remove(CONFIG_PREPARED_TRAVERSAL_CACHE_SIZE);
         if (!properties.isEmpty()) {
             throw new IllegalStateException("Unknown configuration parameters found for CypherOpProcessor: " + properties);
         }
 
-        return config.getOrDefault("translatorDefinition", DEFAULT_TRANSLATOR_DEFINITION) + "+" +
-            config.getOrDefault("translatorFeatures", "");
+        return config;
+    }
+
+    private synchronized PreparedTraversalCache preparedTraversals(Context context) {
+        if (preparedTraversals == null) {
+            Object size = getConfig(context).getOrDefault(CONFIG_PREPARED_TRAVERSAL_CACHE_SIZE, 0);
+            preparedTraversals = new PreparedTraversalCache(((Number) size).intValue());
+        }
+        return preparedTraversals;
+    }
+
+    private String getTranslatorDefinition(Context context) {
+        Map<String, Object> config = getConfig(context);
+        return config.getOrDefault(CONFIG_TRANSLATOR_DEFINITION, DEFAULT_TRANSLATOR_DEFINITION) + "+" +
+            config.getOrDefault(CONFIG_TRANSLATOR_FEATURES, "");
     }
 
 }
@@ -22,6 +22,7 @@ import org.apache.tinkerpop.gremlin.structure.Column;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty.Cardinality;
 import org.opencypher.gremlin.translation.translator.Translator;
 import org.opencypher.gremlin.traversal.CustomFunction;
+import org.opencypher.gremlin.traversal.CustomReducer;
 
 /**
  * Gremlin {@link org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal} DSL wrapper.
@@ -113,6 +114,8 @@ public interface GremlinSteps<T, P> {
 
     GremlinSteps<T, P> fold();
 
+    GremlinSteps<T, P> fold(CustomReducer reducer);
+
     GremlinSteps<T, P> from(String fromStepLabel);
 
     GremlinSteps<T, P> group();
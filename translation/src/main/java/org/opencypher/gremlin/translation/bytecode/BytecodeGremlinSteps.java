@@ -17,6 +17,7 @@ package org.opencypher.gremlin.translation.bytecode;
 
 import static org.opencypher.gremlin.translation.groovy.StringTranslationUtils.apply;
 
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
@@ -30,6 +31,7 @@ import org.apache.tinkerpop.gremlin.structure.VertexProperty.Cardinality;
 import org.apache.tinkerpop.gremlin.util.function.Lambda;
 import org.opencypher.gremlin.translation.GremlinSteps;
 import org.opencypher.gremlin.traversal.CustomFunction;
+import org.opencypher.gremlin.traversal.CustomReducer;
 
 @SuppressWarnings("unchecked")
 public class BytecodeGremlinSteps implements GremlinSteps<Bytecode, P> {
@@ -224,6 +226,14 @@ public class BytecodeGremlinSteps implements GremlinSteps<Bytecode, P> {
         return this;
     }
 
+    @Override
+    public GremlinSteps<Bytecode, P> fold(CustomReducer reducer) {
+        String lambdaSource = "{ a, b -> " + apply(reducer.getName(), reducer.getArguments()) + ".apply(a, b) }";
+        BiFunction lambda = Lambda.biFunction(lambdaSource, "gremlin-groovy");
+        bytecode.addStep(Symbols.fold, reducer.getSeed(), lambda);
+        return this;
+    }
+
     @Override
     public GremlinSteps<Bytecode, P> from(String fromStepLabel) {
         bytecode.addStep(Symbols.from, fromStepLabel);
@@ -346,7 +356,7 @@ public class BytecodeGremlinSteps implements GremlinSteps<Bytecode, P> {
 
     @Override
     public GremlinSteps<Bytecode, P> map(CustomFunction function) {
-        String lambdaSource = apply(function.getName()) + ".apply(it)";
+        String lambdaSource = apply(function.getName(), function.getArguments()) + ".apply(it)";
         Function lambda = Lambda.function(lambdaSource, "gremlin-groovy");
         bytecode.addStep(Symbols.map, lambda);
         return this;
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.bytecode;
+
+import static org.opencypher.gremlin.translation.Tokens.NULL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode.Binding;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode.Instruction;
+
+/**
+ * A reusable bytecode translation, where parameters are referred to as {@link Binding} arguments.
+ * <p>
+ * Positions of bindings are resolved once, so binding new parameter values
+ * only copies instructions that contain bindings, and does not re-walk the translation.
+ * Nested traversals without bindings are shared between the produced bytecode instances.
+ * <p>
+ * Templates are immutable and can be used concurrently.
+ */
+public final class BytecodeTemplate {
+
+    private final Bytecode bytecode;
+    private final InstructionTemplate[] sources;
+    private final InstructionTemplate[] steps;
+    private final boolean hasBindings;
+
+    private BytecodeTemplate(Bytecode bytecode) {
+        this.bytecode = bytecode;
+        this.sources = compile(bytecode.getSourceInstructions());
+        this.steps = compile(bytecode.getStepInstructions());
+        this.hasBindings = hasBindings(sources) || hasBindings(steps);
+    }
+
+    /**
+     * Creates a template from a bytecode translation.
+     *
+     * @param bytecode bytecode translation
+     * @return bytecode template
+     */
+    public static BytecodeTemplate of(Bytecode bytecode) {
+        return new BytecodeTemplate(bytecode);
+    }
+
+    /**
+     * Creates bytecode with the given parameter values bound.
+     * Missing parameters are bound to {@code null}.
+     *
+     * @param parameters parameter values by binding name
+     * @return bytecode
+     */
+    public Bytecode bind(Map<String, ?> parameters) {
+        if (!hasBindings) {
+            return bytecode;
+        }
+        Bytecode bound = new Bytecode();
+        for (InstructionTemplate source : sources) {
+            bound.addSource(source.operator, source.bind(parameters));
+        }
+        for (InstructionTemplate step : steps) {
+            bound.addStep(step.operator, step.bind(parameters));
+        }
+        return bound;
+    }
+
+    private static InstructionTemplate[] compile(List<Instruction> instructions) {
+        InstructionTemplate[] templates = new InstructionTemplate[instructions.size()];
+        for (int i = 0; i < templates.length; i++) {
+            templates[i] = new InstructionTemplate(instructions.get(i));
+        }
+        return templates;
+    }
+
+    private static boolean hasBindings(InstructionTemplate[] instructions) {
+        for (InstructionTemplate instruction : instructions) {
+            if (instruction.slots.length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class InstructionTemplate {
+        private final String operator;
+        private final Object[] arguments;
+        private final int[] slots;
+
+        private InstructionTemplate(Instruction instruction) {
+            operator = instruction.getOperator();
+            arguments = instruction.getArguments().clone();
+            List<Integer> bound = new ArrayList<>();
+            for (int i = 0; i < arguments.length; i++) {
+                Object argument = arguments[i];
+                if (argument instanceof Bytecode) {
+                    BytecodeTemplate nested = new BytecodeTemplate((Bytecode) argument);
+                    if (nested.hasBindings) {
+                        arguments[i] = nested;
+                        bound.add(i);
+                    }
+                } else if (argument instanceof Binding) {
+                    bound.add(i);
+                }
+            }
+            slots = bound.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private Object[] bind(Map<String, ?> parameters) {
+            if (slots.length == 0) {
+                return arguments;
+            }
+            Object[] bound = arguments.clone();
+            for (int slot : slots) {
+                Object argument = arguments[slot];
+                if (argument instanceof BytecodeTemplate) {
+                    bound[slot] = ((BytecodeTemplate) argument).bind(parameters);
+                } else {
+                    String name = ((Binding<?>) argument).variable();
+                    Object value = parameters.get(name);
+                    bound[slot] = new Binding<>(name, value == null ? NULL : value);
+                }
+            }
+            return bound;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.structure.Column;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty.Cardinality;
 import org.opencypher.gremlin.translation.GremlinSteps;
 import org.opencypher.gremlin.traversal.CustomFunction;
+import org.opencypher.gremlin.traversal.CustomReducer;
 
 public class GroovyGremlinSteps implements GremlinSteps<String, GroovyPredicate> {
 
@@ -231,6 +232,16 @@ public class GroovyGremlinSteps implements GremlinSteps<String, GroovyPredicate>
         return this;
     }
 
+    @Override
+    public GremlinSteps<String, GroovyPredicate> fold(CustomReducer reducer) {
+        g.append(chain(
+            "fold",
+            reducer.getSeed(),
+            Verbatim.of(apply(reducer.getName(), reducer.getArguments()))
+        ));
+        return this;
+    }
+
     @Override
     public GremlinSteps<String, GroovyPredicate> from(String fromStepLabel) {
         g.append(chain("from", fromStepLabel));
@@ -355,7 +366,7 @@ public class GroovyGremlinSteps implements GremlinSteps<String, GroovyPredicate>
     public GremlinSteps<String, GroovyPredicate> map(CustomFunction function) {
         g.append(chain(
             "map",
-            Verbatim.of(apply(function.getName()))
+            Verbatim.of(apply(function.getName(), function.getArguments()))
         ));
         return this;
     }
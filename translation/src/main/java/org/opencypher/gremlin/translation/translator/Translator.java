@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
@@ -49,6 +50,7 @@ import org.opencypher.gremlin.translation.traversal.TraversalGremlinSteps;
  * for different targets.
  * <p>
  * Translator instances are not reusable.
+ * Use {@link TranslatorFactory} to create translators with the same configuration repeatedly.
  */
 public final class Translator<T, P> {
     private final GremlinSteps<T, P> steps;
@@ -139,6 +141,16 @@ public final class Translator<T, P> {
         return steps.current();
     }
 
+    /**
+     * Creates a translator with the same configuration and the given steps.
+     *
+     * @param steps Gremlin steps implementation
+     * @return translator
+     */
+    Translator<T, P> withSteps(GremlinSteps<T, P> steps) {
+        return new Translator<>(steps, predicates, bindings, features, flavor);
+    }
+
     /**
      * Starts to build a translator.
      *
@@ -236,6 +248,8 @@ public final class Translator<T, P> {
 
     public static class FlavorBuilder<T, P> {
         private static final Map<String, TranslatorFlavor> flavors = new HashMap<>();
+        private static final int MAX_PARSED_DEFINITIONS = 256;
+        private static final Map<String, ParsedDefinition> parsedDefinitions = new ConcurrentHashMap<>();
 
         static {
             flavors.put("gremlinserver34x", TranslatorFlavor.gremlinServer34x());
@@ -342,6 +356,22 @@ public final class Translator<T, P> {
          * @see TranslatorFeature
          */
         public Translator<T, P> build(String translatorDefinition) {
+            ParsedDefinition definition = parsedDefinitions.get(translatorDefinition);
+            if (definition == null) {
+                definition = parse(translatorDefinition);
+                if (parsedDefinitions.size() < MAX_PARSED_DEFINITIONS) {
+                    parsedDefinitions.put(translatorDefinition, definition);
+                }
+            }
+
+            if (definition.inlineParameters) {
+                inlineParameters();
+            }
+            this.features.addAll(definition.features);
+            return build(definition.flavor);
+        }
+
+        private ParsedDefinition parse(String translatorDefinition) {
             String[] tokens = translatorDefinition.split("\\+");
             String flavorName = tokens[0].toLowerCase();
             if (!flavorName.equals("") && !flavors.containsKey(flavorName)) {
@@ -349,25 +379,27 @@ public final class Translator<T, P> {
                     translatorDefinition));
             }
             TranslatorFlavor flavor = flavors.getOrDefault(flavorName, TranslatorFlavor.gremlinServer());
+            boolean inlineParameters = false;
+            Set<TranslatorFeature> features = EnumSet.noneOf(TranslatorFeature.class);
 
             if (flavorName.equals("neptune")) {
-                inlineParameters();
-                enableMultipleLabels();
+                inlineParameters = true;
+                features.add(TranslatorFeature.MULTIPLE_LABELS);
             }
 
-            List<String> features = Arrays.asList(tokens).subList(1, tokens.length);
-            for (String feature : features) {
+            List<String> featureNames = Arrays.asList(tokens).subList(1, tokens.length);
+            for (String feature : featureNames) {
                 feature = feature.trim();
                 if ("".equals(feature)) {
                     // do nothing
                 } else if ("inline_parameters".equals(feature)) {
-                    inlineParameters();
+                    inlineParameters = true;
                 } else if ("cfog_server_extensions".equals(feature)) {
-                    enableCypherExtensions();
+                    features.add(TranslatorFeature.CYPHER_EXTENSIONS);
                 } else {
                     try {
                         TranslatorFeature translatorFeature = TranslatorFeature.valueOf(feature.toUpperCase());
-                        this.features.add(translatorFeature);
+                        features.add(translatorFeature);
                     } catch (Exception e) {
                         throw new IllegalArgumentException(
                             errorMessage("Unknown translator feature: " + feature, translatorDefinition), e);
@@ -375,7 +407,7 @@ public final class Translator<T, P> {
                 }
             }
 
-            return build(flavor);
+            return new ParsedDefinition(flavor, features, inlineParameters);
         }
 
         private String errorMessage(String start, String translatorDefinition) {
@@ -426,4 +458,16 @@ public final class Translator<T, P> {
             return super.inlineParameters();
         }
     }
+
+    private static final class ParsedDefinition {
+        private final TranslatorFlavor flavor;
+        private final Set<TranslatorFeature> features;
+        private final boolean inlineParameters;
+
+        private ParsedDefinition(TranslatorFlavor flavor, Set<TranslatorFeature> features, boolean inlineParameters) {
+            this.flavor = flavor;
+            this.features = features;
+            this.inlineParameters = inlineParameters;
+        }
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.translator;
+
+import java.util.function.Supplier;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.opencypher.gremlin.translation.GremlinSteps;
+import org.opencypher.gremlin.translation.bytecode.BytecodeGremlinSteps;
+import org.opencypher.gremlin.translation.groovy.GroovyGremlinSteps;
+import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
+import org.opencypher.gremlin.translation.traversal.TraversalGremlinSteps;
+
+/**
+ * Reusable, thread-safe source of {@link Translator} instances with a fixed configuration.
+ * <p>
+ * Translator definition, flavor and features are resolved once, when the factory is created.
+ * Stateless predicates and bindings are shared between created translators,
+ * while each translator gets its own steps builder.
+ */
+public final class TranslatorFactory<T, P> implements Supplier<Translator<T, P>> {
+    private final Translator<T, P> template;
+    private final Supplier<GremlinSteps<T, P>> stepsSupplier;
+    private final boolean traversal;
+
+    private TranslatorFactory(Translator<T, P> template, Supplier<GremlinSteps<T, P>> stepsSupplier) {
+        this(template, stepsSupplier, false);
+    }
+
+    private TranslatorFactory(Translator<T, P> template, Supplier<GremlinSteps<T, P>> stepsSupplier, boolean traversal) {
+        this.template = template;
+        this.stepsSupplier = stepsSupplier;
+        this.traversal = traversal;
+    }
+
+    /**
+     * Creates a factory of translators to Gremlin-Groovy strings.
+     *
+     * @param flavor translation flavor
+     * @return translator factory
+     */
+    public static TranslatorFactory<String, GroovyPredicate> gremlinGroovy(TranslatorFlavor flavor) {
+        return new TranslatorFactory<>(Translator.builder().gremlinGroovy().build(flavor), GroovyGremlinSteps::new);
+    }
+
+    /**
+     * Creates a factory of translators to Gremlin-Groovy strings.
+     *
+     * @param translatorDefinition string definition, see {@link Translator.FlavorBuilder#build(String)}
+     * @return translator factory
+     */
+    public static TranslatorFactory<String, GroovyPredicate> gremlinGroovy(String translatorDefinition) {
+        return new TranslatorFactory<>(Translator.builder().gremlinGroovy().build(translatorDefinition), GroovyGremlinSteps::new);
+    }
+
+    /**
+     * Creates a factory of translators to Gremlin bytecode.
+     *
+     * @param flavor translation flavor
+     * @return translator factory
+     */
+    public static TranslatorFactory<Bytecode, org.apache.tinkerpop.gremlin.process.traversal.P> bytecode(TranslatorFlavor flavor) {
+        return new TranslatorFactory<>(Translator.builder().bytecode().build(flavor), BytecodeGremlinSteps::new);
+    }
+
+    /**
+     * Creates a factory of translators to Gremlin bytecode.
+     *
+     * @param translatorDefinition string definition, see {@link Translator.FlavorBuilder#build(String)}
+     * @return translator factory
+     */
+    public static TranslatorFactory<Bytecode, org.apache.tinkerpop.gremlin.process.traversal.P> bytecode(String translatorDefinition) {
+        return new TranslatorFactory<>(Translator.builder().bytecode().build(translatorDefinition), BytecodeGremlinSteps::new);
+    }
+
+    /**
+     * Creates a factory of translators to Gremlin {@code GraphTraversal}.
+     * Use {@link #get(GraphTraversal)} to create translators that modify a given traversal.
+     *
+     * @param translatorDefinition string definition, see {@link Translator.FlavorBuilder#build(String)}
+     * @return translator factory
+     */
+    public static TranslatorFactory<GraphTraversal, org.apache.tinkerpop.gremlin.process.traversal.P> traversal(String translatorDefinition) {
+        return new TranslatorFactory<>(
+            Translator.builder().traversal().build(translatorDefinition),
+            () -> new TraversalGremlinSteps(new DefaultGraphTraversal()),
+            true);
+    }
+
+    /**
+     * Creates a new translator.
+     *
+     * @return translator
+     */
+    @Override
+    public Translator<T, P> get() {
+        return template.withSteps(stepsSupplier.get());
+    }
+
+    /**
+     * Returns the flavor of created translators.
+     *
+     * @return translation flavor
+     */
+    public TranslatorFlavor flavor() {
+        return template.flavor();
+    }
+
+    /**
+     * Creates a new translator that modifies the given traversal.
+     *
+     * @param g traversal to modify with translated steps
+     * @return translator
+     * @throws IllegalStateException if this is not a factory of traversal translators
+     * @see #traversal(String)
+     */
+    @SuppressWarnings("unchecked")
+    public Translator<T, P> get(GraphTraversal g) {
+        if (!traversal) {
+            throw new IllegalStateException("Not a traversal translator factory");
+        }
+        return template.withSteps((GremlinSteps<T, P>) new TraversalGremlinSteps(g));
+    }
+}
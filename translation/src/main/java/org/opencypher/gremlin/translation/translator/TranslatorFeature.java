@@ -45,5 +45,37 @@ public enum TranslatorFeature {
     /**
      * Enables experimental `gremlin` Cypher function that allows including Gremlin steps in translated query
      */
-    EXPERIMENTAL_GREMLIN_FUNCTION
+    EXPERIMENTAL_GREMLIN_FUNCTION,
+
+    /**
+     * Extract literal values from queries as bindings with deterministic names,
+     * so queries that only differ in literal values are translated to the same Gremlin-Groovy script
+     * and can be served from the Gremlin Server script cache.
+     * Applies to translating clients, which parse queries with {@code CypherAst.parseExtractingLiterals}.
+     */
+    EXTRACT_LITERALS,
+
+    /**
+     * Evaluate scalar expressions (comparisons, boolean logic, arithmetic and common functions)
+     * with a single {@code cypherScalar} step instead of nested Gremlin sub-traversals.
+     * Requires {@link #CYPHER_EXTENSIONS}, ignored otherwise.
+     */
+    COMPILED_EXPRESSIONS,
+
+    /**
+     * Compute {@code percentileCont} and {@code percentileDisc} with a bounded-memory quantile sketch
+     * instead of sorting all values. Results are exact for small groups and approximate otherwise,
+     * with rank error bounded by {@link org.opencypher.gremlin.traversal.QuantileSketch#DEFAULT_ACCURACY}.
+     * For a different accuracy, use {@code gremlin.percentileCont(expr, percentile, accuracy)}
+     * and {@code gremlin.percentileDisc(expr, percentile, accuracy)}.
+     * Requires {@link #CYPHER_EXTENSIONS}.
+     */
+    APPROXIMATE_PERCENTILES,
+
+    /**
+     * Compute subexpressions that are shared by several {@code RETURN} or {@code WITH} items once per row,
+     * e.g. {@code n.price * n.qty} in {@code RETURN n.price * n.qty AS total, n.price * n.qty * 0.2 AS tax},
+     * and reference the computed value from each item.
+     */
+    COMMON_SUBEXPRESSIONS
 }
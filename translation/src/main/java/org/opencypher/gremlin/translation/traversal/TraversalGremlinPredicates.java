@@ -84,7 +84,7 @@ public class TraversalGremlinPredicates implements GremlinPredicates<P> {
 
     @Override
     public P regexMatch(Object value) {
-        return CustomPredicate.cypherRegex(value);
+        return CustomPredicate.cypherCompiledRegex(value);
     }
 
     @Override
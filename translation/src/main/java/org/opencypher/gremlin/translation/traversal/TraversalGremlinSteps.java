@@ -32,6 +32,7 @@ import org.apache.tinkerpop.gremlin.structure.VertexProperty.Cardinality;
 import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.opencypher.gremlin.translation.GremlinSteps;
 import org.opencypher.gremlin.traversal.CustomFunction;
+import org.opencypher.gremlin.traversal.CustomReducer;
 
 @SuppressWarnings("unchecked")
 public class TraversalGremlinSteps implements GremlinSteps<GraphTraversal, P> {
@@ -258,6 +259,12 @@ public class TraversalGremlinSteps implements GremlinSteps<GraphTraversal, P> {
         return this;
     }
 
+    @Override
+    public GremlinSteps<GraphTraversal, P> fold(CustomReducer reducer) {
+        g.fold(reducer.getSeed(), reducer.getImplementation());
+        return this;
+    }
+
     @Override
     public GremlinSteps<GraphTraversal, P> from(String fromStepLabel) {
         g.from(fromStepLabel);
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.traversal;
+
+import static org.opencypher.gremlin.translation.ReturnProperties.ID;
+import static org.opencypher.gremlin.translation.ReturnProperties.INV;
+import static org.opencypher.gremlin.translation.ReturnProperties.LABEL;
+import static org.opencypher.gremlin.translation.ReturnProperties.NODE_TYPE;
+import static org.opencypher.gremlin.translation.ReturnProperties.OUTV;
+import static org.opencypher.gremlin.translation.ReturnProperties.RELATIONSHIP_TYPE;
+import static org.opencypher.gremlin.translation.ReturnProperties.TYPE;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Compact encoding of normalized Cypher result rows.
+ * <p>
+ * Column names are sent once, in a header item {@code [HEADER, column...]},
+ * followed by rows as positional lists of values.
+ * Nodes and relationships are encoded as positional structs, without repeating
+ * {@link org.opencypher.gremlin.translation.ReturnProperties} keys:
+ * <ul>
+ * <li>node: {@code [NODE, id, label, properties]}</li>
+ * <li>relationship: {@code [RELATIONSHIP, id, label, outV, inV, properties]}</li>
+ * </ul>
+ * A new header is sent if the columns change between rows.
+ * <p>
+ * Markers are strings with a reserved prefix in the first position of a list.
+ * A row or a list value that starts with such a string is escaped as {@code [ESCAPED, value...]}.
+ */
+public final class CompactRows {
+    private CompactRows() {
+    }
+
+    public static final String ARGS_RESULT_ENCODING = "resultEncoding";
+    public static final String COMPACT_ENCODING = "compact";
+
+    private static final String MARKER_PREFIX = "  cypher.";
+    static final String HEADER = MARKER_PREFIX + "columns";
+    static final String NODE = MARKER_PREFIX + "node";
+    static final String RELATIONSHIP = MARKER_PREFIX + "relationship";
+    static final String ESCAPED = MARKER_PREFIX + "escaped";
+
+    /**
+     * Encodes normalized rows.
+     *
+     * @param rows normalized rows, see {@link ReturnNormalizer}
+     * @return header and row items
+     */
+    public static Iterator<Object> encode(Iterator<?> rows) {
+        return new Iterator<Object>() {
+            private List<?> columns;
+            private Map<?, ?> pending;
+
+            @Override
+            public boolean hasNext() {
+                return pending != null || rows.hasNext();
+            }
+
+            @Override
+            public Object next() {
+                Map<?, ?> row = pending != null ? pending : (Map<?, ?>) rows.next();
+                List<?> rowColumns = new ArrayList<>(row.keySet());
+                if (!rowColumns.equals(columns)) {
+                    columns = rowColumns;
+                    pending = row;
+                    List<Object> header = new ArrayList<>(rowColumns.size() + 1);
+                    header.add(HEADER);
+                    header.addAll(rowColumns);
+                    return header;
+                }
+                pending = null;
+
+                return encodeList(row.values());
+            }
+        };
+    }
+
+    private static Object encodeValue(Object value) {
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Object type = map.get(TYPE);
+            if (NODE_TYPE.equals(type)) {
+                List<Object> node = new ArrayList<>(4);
+                node.add(NODE);
+                node.add(map.get(ID));
+                node.add(map.get(LABEL));
+                node.add(properties(map));
+                return node;
+            } else if (RELATIONSHIP_TYPE.equals(type)) {
+                List<Object> relationship = new ArrayList<>(6);
+                relationship.add(RELATIONSHIP);
+                relationship.add(map.get(ID));
+                relationship.add(map.get(LABEL));
+                relationship.add(map.get(OUTV));
+                relationship.add(map.get(INV));
+                relationship.add(properties(map));
+                return relationship;
+            }
+
+            Map<Object, Object> result = new LinkedHashMap<>();
+            for (Entry<?, ?> e : map.entrySet()) {
+                result.put(e.getKey(), encodeValue(e.getValue()));
+            }
+            return result;
+        } else if (value instanceof Collection) {
+            return encodeList((Collection<?>) value);
+        }
+        return value;
+    }
+
+    private static List<Object> encodeList(Collection<?> collection) {
+        List<Object> result = new ArrayList<>(collection.size() + 1);
+        for (Object e : collection) {
+            result.add(encodeValue(e));
+        }
+        if (isMarked(result)) {
+            result.add(0, ESCAPED);
+        }
+        return result;
+    }
+
+    private static boolean isMarked(List<?> list) {
+        return !list.isEmpty() && list.get(0) instanceof String && ((String) list.get(0)).startsWith(MARKER_PREFIX);
+    }
+
+    private static Map<Object, Object> properties(Map<?, ?> element) {
+        Map<Object, Object> properties = new HashMap<>();
+        for (Entry<?, ?> e : element.entrySet()) {
+            Object key = e.getKey();
+            if (!TYPE.equals(key) && !ID.equals(key) && !LABEL.equals(key) && !INV.equals(key) && !OUTV.equals(key)) {
+                properties.put(key, e.getValue());
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Creates a decoder for items of a single result stream.
+     *
+     * @return new decoder
+     */
+    public static Decoder decoder() {
+        return new Decoder();
+    }
+
+    /**
+     * Stateful decoder of a compact result stream. Not thread-safe.
+     */
+    public static final class Decoder {
+        private List<String> columns;
+
+        private Decoder() {
+        }
+
+        /**
+         * Decodes an item of the result stream.
+         * Items that are not lists are returned as is.
+         *
+         * @param item encoded item
+         * @return normalized row, or {@code null} if the item is a header
+         * @throws IllegalArgumentException if a row has no header, or the number of values does not match the header
+         */
+        @SuppressWarnings("unchecked")
+        public Map<String, Object> decode(Object item) {
+            if (!(item instanceof List)) {
+                return (Map<String, Object>) item;
+            }
+
+            List<?> values = (List<?>) item;
+            if (!values.isEmpty() && HEADER.equals(values.get(0))) {
+                columns = new ArrayList<>(values.size() - 1);
+                for (Object column : values.subList(1, values.size())) {
+                    columns.add(String.valueOf(column));
+                }
+                return null;
+            }
+            if (columns == null) {
+                throw new IllegalArgumentException("Expected a header before row: " + item);
+            }
+            if (!values.isEmpty() && ESCAPED.equals(values.get(0))) {
+                values = values.subList(1, values.size());
+            }
+            if (values.size() != columns.size()) {
+                throw new IllegalArgumentException(
+                    "Expected " + columns.size() + " values for columns " + columns + ", got: " + values.size());
+            }
+            Map<String, Object> row = new LinkedHashMap<>(columns.size() * 4 / 3 + 1);
+            for (int i = 0; i < columns.size(); i++) {
+                row.put(columns.get(i), decodeValue(values.get(i)));
+            }
+            return row;
+        }
+
+        private static Object decodeValue(Object value) {
+            if (value instanceof List) {
+                List<?> list = (List<?>) value;
+                Object marker = list.isEmpty() ? null : list.get(0);
+                if (NODE.equals(marker)) {
+                    return element(NODE_TYPE, list.get(1), list.get(2), (Map<?, ?>) list.get(3), 3);
+                } else if (RELATIONSHIP.equals(marker)) {
+                    Map<Object, Object> relationship = element(RELATIONSHIP_TYPE, list.get(1), list.get(2), (Map<?, ?>) list.get(5), 5);
+                    relationship.put(OUTV, list.get(3));
+                    relationship.put(INV, list.get(4));
+                    return relationship;
+                } else if (ESCAPED.equals(marker)) {
+                    list = list.subList(1, list.size());
+                }
+
+                List<Object> result = new ArrayList<>(list.size());
+                for (Object e : list) {
+                    result.add(decodeValue(e));
+                }
+                return result;
+            } else if (value instanceof Map) {
+                Map<Object, Object> result = new LinkedHashMap<>();
+                for (Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+                    result.put(e.getKey(), decodeValue(e.getValue()));
+                }
+                return result;
+            }
+            return value;
+        }
+
+        private static Map<Object, Object> element(String type, Object id, Object label, Map<?, ?> properties, int keys) {
+            Map<Object, Object> element = new HashMap<>((properties.size() + keys) * 4 / 3 + 1);
+            element.put(TYPE, type);
+            element.put(ID, id);
+            element.put(LABEL, label);
+            element.putAll(properties);
+            return element;
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.opencypher.gremlin.traversal;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.Function;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
@@ -22,16 +23,22 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 public class CustomFunction {
     private final String name;
     private final Function<Traverser, Object> implementation;
+    private final Object[] arguments;
 
-    CustomFunction(String name, Function<Traverser, Object> implementation) {
+    CustomFunction(String name, Function<Traverser, Object> implementation, Object... arguments) {
         this.name = name;
         this.implementation = implementation;
+        this.arguments = arguments;
     }
 
     public String getName() {
         return name;
     }
 
+    public Object[] getArguments() {
+        return arguments.clone();
+    }
+
     public Function<Traverser, Object> getImplementation() {
         return implementation;
     }
@@ -106,6 +113,27 @@ public class CustomFunction {
         );
     }
 
+    public static CustomFunction cypherApproxPercentileCont() {
+        return new CustomFunction(
+            "cypherApproxPercentileCont",
+            CustomFunctions.cypherApproxPercentileCont()
+        );
+    }
+
+    public static CustomFunction cypherApproxPercentileDisc() {
+        return new CustomFunction(
+            "cypherApproxPercentileDisc",
+            CustomFunctions.cypherApproxPercentileDisc()
+        );
+    }
+
+    public static CustomFunction cypherApproxCountDistinct() {
+        return new CustomFunction(
+            "cypherApproxCountDistinct",
+            CustomFunctions.cypherApproxCountDistinct()
+        );
+    }
+
     public static CustomFunction cypherSize() {
         return new CustomFunction(
             "cypherSize",
@@ -120,6 +148,30 @@ public class CustomFunction {
         );
     }
 
+    public static CustomFunction cypherArithmetic(String operator) {
+        return new CustomFunction(
+            "cypherArithmetic",
+            CustomFunctions.cypherArithmetic(operator),
+            operator
+        );
+    }
+
+    public static CustomFunction cypherLongArithmetic(String operator) {
+        return new CustomFunction(
+            "cypherLongArithmetic",
+            CustomFunctions.cypherLongArithmetic(operator),
+            operator
+        );
+    }
+
+    public static CustomFunction cypherDoubleArithmetic(String operator) {
+        return new CustomFunction(
+            "cypherDoubleArithmetic",
+            CustomFunctions.cypherDoubleArithmetic(operator),
+            operator
+        );
+    }
+
     public static CustomFunction cypherException() {
         return new CustomFunction(
             "cypherException",
@@ -149,6 +201,14 @@ public class CustomFunction {
     }
 
 
+    public static CustomFunction cypherScalar(String program) {
+        return new CustomFunction(
+            "cypherScalar",
+            CustomFunctions.cypherScalar(program),
+            program
+        );
+    }
+
     public static CustomFunction cypherTrim() {
         return new CustomFunction(
             "cypherTrim",
@@ -182,11 +242,12 @@ public class CustomFunction {
         if (this == o) return true;
         if (!(o instanceof CustomFunction)) return false;
         CustomFunction that = (CustomFunction) o;
-        return Objects.equals(name, that.name);
+        return Objects.equals(name, that.name) &&
+            Arrays.equals(arguments, that.arguments);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name);
+        return Objects.hash(name, Arrays.hashCode(arguments));
     }
 }
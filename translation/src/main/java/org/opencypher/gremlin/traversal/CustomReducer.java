@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.traversal;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import org.opencypher.gremlin.translation.Tokens;
+
+/**
+ * A custom reducing function for {@code fold(seed, function)} steps.
+ * <p>
+ * Reducers keep an accumulator instead of a list of all values, so memory of the aggregation does not grow
+ * with the number of values. The seed is {@link Tokens#NULL}, so it can be shared between executions safely:
+ * reducers create the accumulator on the first value, and skip {@code null} values. Partial accumulators
+ * passed as values are merged, so reducers can combine results of partitions.
+ */
+public class CustomReducer {
+    private final String name;
+    private final Object seed;
+    private final BiFunction<Object, Object, Object> implementation;
+    private final Object[] arguments;
+
+    CustomReducer(String name, BiFunction<Object, Object, Object> implementation, Object... arguments) {
+        this.name = name;
+        this.seed = Tokens.NULL;
+        this.implementation = implementation;
+        this.arguments = arguments;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Object getSeed() {
+        return seed;
+    }
+
+    public Object[] getArguments() {
+        return arguments.clone();
+    }
+
+    public BiFunction<Object, Object, Object> getImplementation() {
+        return implementation;
+    }
+
+    public static CustomReducer cypherApproxCountDistinct(int precision) {
+        return new CustomReducer(
+            "cypherApproxCountDistinctReducer",
+            CustomFunctions.cypherApproxCountDistinctReducer(precision),
+            precision
+        );
+    }
+
+    public static CustomReducer cypherApproxPercentile(double accuracy) {
+        return new CustomReducer(
+            "cypherApproxPercentileReducer",
+            CustomFunctions.cypherApproxPercentileReducer(accuracy),
+            accuracy
+        );
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CustomReducer)) return false;
+        CustomReducer that = (CustomReducer) o;
+        return Objects.equals(name, that.name) &&
+            Arrays.equals(arguments, that.arguments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, Arrays.hashCode(arguments));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.traversal;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.ir.TranslationWriter;
+import org.opencypher.gremlin.translation.ir.model.GremlinStep;
+import org.opencypher.gremlin.translation.translator.Translator;
+import scala.collection.Seq;
+
+/**
+ * A translation that can be executed repeatedly with other values of the same parameters, without translating the query again.
+ * <p>
+ * Translations without parameters have traversal strategies applied once.
+ * Each execution runs on a clone of the prepared traversal, which itself is never iterated.
+ * <p>
+ * Translations with parameters keep the intermediate representation, where parameters are bindings,
+ * and each execution writes it with the parameter values of that execution.
+ *
+ * @see PreparedTraversalCache
+ */
+public final class PreparedTraversal {
+
+    private final Traversal.Admin<?, ?> traversal;
+    private final Seq<GremlinStep> ir;
+    private final ReturnNormalizer returnNormalizer;
+    private final boolean updating;
+
+    private PreparedTraversal(Traversal.Admin<?, ?> traversal,
+                              Seq<GremlinStep> ir,
+                              ReturnNormalizer returnNormalizer,
+                              boolean updating) {
+        this.traversal = traversal;
+        this.ir = ir;
+        this.returnNormalizer = returnNormalizer;
+        this.updating = updating;
+    }
+
+    /**
+     * Prepares a translation for repeated execution.
+     * Translations that inline parameter values can not be prepared.
+     *
+     * @param ir         intermediate representation of the translation
+     * @param ast        translated query
+     * @param parameters query parameters
+     * @param translator traversal translator, used if the query has no parameters
+     * @return prepared traversal, or {@code null} if the translation depends on parameter values
+     */
+    public static PreparedTraversal prepare(Seq<GremlinStep> ir,
+                                            CypherAst ast,
+                                            Map<String, Object> parameters,
+                                            Translator<GraphTraversal, P> translator) {
+        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(ast.getReturnTypes());
+        if (parameters.isEmpty()) {
+            GraphTraversal<?, ?> traversal = TranslationWriter.write(ir, translator, parameters);
+            Traversal.Admin<?, ?> admin = traversal.asAdmin();
+            admin.applyStrategies();
+            return new PreparedTraversal(admin, null, returnNormalizer, ast.isUpdating());
+        }
+        if (ast.bindsParameters(ir)) {
+            return new PreparedTraversal(null, ir, returnNormalizer, ast.isUpdating());
+        }
+        return null;
+    }
+
+    /**
+     * Creates a traversal for a single execution.
+     *
+     * @param parameters  query parameters, with the same names as when the traversal was prepared
+     * @param translators supplier of traversal translators for the parameter values
+     * @return traversal ready for iteration
+     */
+    public GraphTraversal<?, ?> traversal(Map<String, Object> parameters,
+                                          Supplier<Translator<GraphTraversal, P>> translators) {
+        if (traversal != null) {
+            return (GraphTraversal<?, ?>) traversal.clone();
+        }
+        return TranslationWriter.write(ir, translators.get(), parameters);
+    }
+    /**
+     * Returns the result normalizer for the translated query.
+     *
+     * @return result normalizer
+     */
+    public ReturnNormalizer returnNormalizer() {
+        return returnNormalizer;
+    }
+
+    /**
+     * Checks whether the translated query modifies the graph.
+     *
+     * @return true if the query contains updating clauses
+     */
+    public boolean isUpdating() {
+        return updating;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.traversal;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+/**
+ * A least recently used cache of {@link PreparedTraversal}s for in-process execution.
+ * <p>
+ * Prepared traversals are keyed by traversal source, translator definition, query and parameter names,
+ * so a cache hit is reused for any values of the same parameters.
+ * Only translations that refer to every parameter as a binding are prepared, see {@link PreparedTraversal#prepare}.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class PreparedTraversalCache {
+
+    private final int maxSize;
+    private final Map<Key, PreparedTraversal> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a prepared traversal cache.
+     *
+     * @param maxSize maximum number of cached traversals, 0 disables caching
+     */
+    public PreparedTraversalCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Cache size should not be negative, got: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<Key, PreparedTraversal>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, PreparedTraversal> eldest) {
+                return size() > PreparedTraversalCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Checks if prepared traversals are cached.
+     *
+     * @return false if the cache size is 0
+     */
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Looks up a prepared traversal.
+     *
+     * @param gts                  traversal source the query runs on
+     * @param translatorDefinition translator definition
+     * @param query                Cypher query
+     * @param parameters           normalized query parameters
+     * @return prepared traversal, or {@code null} if not cached
+     */
+    public PreparedTraversal get(GraphTraversalSource gts,
+                                 String translatorDefinition,
+                                 String query,
+                                 Map<String, Object> parameters) {
+        if (maxSize == 0) {
+            return null;
+        }
+        PreparedTraversal prepared;
+        synchronized (entries) {
+            prepared = entries.get(new Key(gts, translatorDefinition, query, parameters.keySet()));
+        }
+        if (prepared != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return prepared;
+    }
+
+    /**
+     * Caches a prepared traversal.
+     *
+     * @param gts                  traversal source the query runs on
+     * @param translatorDefinition translator definition
+     * @param query                Cypher query
+     * @param parameters           normalized query parameters
+     * @param prepared             prepared traversal
+     */
+    public void put(GraphTraversalSource gts,
+                    String translatorDefinition,
+                    String query,
+                    Map<String, Object> parameters,
+                    PreparedTraversal prepared) {
+        if (maxSize == 0) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(new Key(gts, translatorDefinition, query, parameters.keySet()), prepared);
+        }
+    }
+
+    /**
+     * Returns the number of lookups that found a prepared traversal.
+     *
+     * @return hit count
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that did not find a prepared traversal.
+     *
+     * @return miss count
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of cached traversals.
+     *
+     * @return cache size
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static final class Key {
+        private final Graph graph;
+        private final TraversalStrategies strategies;
+        private final String translatorDefinition;
+        private final String query;
+        private final Set<String> parameterNames;
+        private final int hashCode;
+
+        private Key(GraphTraversalSource gts, String translatorDefinition, String query, Set<String> parameterNames) {
+            this.graph = gts.getGraph();
+            this.strategies = gts.getStrategies();
+            this.translatorDefinition = translatorDefinition;
+            this.query = query;
+            this.parameterNames = new HashSet<>(parameterNames);
+            this.hashCode = Objects.hash(
+                System.identityHashCode(graph), System.identityHashCode(strategies), translatorDefinition, query,
+                this.parameterNames);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return graph == key.graph &&
+                strategies == key.strategies &&
+                translatorDefinition.equals(key.translatorDefinition) &&
+                query.equals(key.query) &&
+                parameterNames.equals(key.parameterNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
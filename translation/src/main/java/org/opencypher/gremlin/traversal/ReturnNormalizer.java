@@ -37,7 +37,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.stream.Collectors;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Property;
@@ -51,11 +50,31 @@ import org.opencypher.v9_0.util.symbols.NodeType;
 import org.opencypher.v9_0.util.symbols.PathType;
 import org.opencypher.v9_0.util.symbols.RelationshipType;
 
+/**
+ * Converts raw traversal results to Cypher-style rows.
+ * <p>
+ * Per-column converters are compiled once from the return types,
+ * so each row is normalized without re-examining the types.
+ */
 public final class ReturnNormalizer {
-    private final Map<String, CypherType> variableTypes;
+    private final String[] columnNames;
+    private final Column[] columns;
+    private final Map<String, Column> columnsByName;
 
     private ReturnNormalizer(Map<String, CypherType> variableTypes) {
-        this.variableTypes = variableTypes;
+        int size = variableTypes.size();
+        this.columnNames = new String[size];
+        this.columns = new Column[size];
+        this.columnsByName = new HashMap<>(capacity(size));
+
+        int i = 0;
+        for (Entry<String, CypherType> e : variableTypes.entrySet()) {
+            Column column = compile(e.getValue());
+            columnNames[i] = e.getKey();
+            columns[i] = column;
+            columnsByName.put(e.getKey(), column);
+            i++;
+        }
     }
 
     public static ReturnNormalizer create(Map<String, CypherType> variableTypes) {
@@ -86,6 +105,39 @@ public final class ReturnNormalizer {
         };
     }
 
+    @FunctionalInterface
+    private interface Column {
+        Object normalize(Object value);
+    }
+
+    private Column compile(CypherType type) {
+        if (type instanceof NodeType) {
+            return nullable(value -> normalizeElement((Map<?, ?>) value, NODE_TYPE));
+        } else if (type instanceof RelationshipType) {
+            return nullable(value -> normalizeRelationship((Map<?, ?>) value));
+        } else if (type instanceof PathType) {
+            return nullable(value -> normalizePath((Map<?, ?>) value));
+        } else if (type instanceof IntegerType) {
+            return nullable(ReturnNormalizer::normalizeInteger);
+        } else if (type instanceof ListType) {
+            Column inner = compile(((ListType) type).innerType());
+            return nullable(value -> {
+                Collection<?> collection = (Collection<?>) value;
+                List<Object> result = new ArrayList<>(collection.size());
+                for (Object item : collection) {
+                    result.add(inner.normalize(item));
+                }
+                return result;
+            });
+        }
+
+        return nullable(this::normalizeValue);
+    }
+
+    private static Column nullable(Column column) {
+        return value -> Tokens.NULL.equals(value) ? null : column.normalize(value);
+    }
+
     private Object normalizeValue(Object value) {
         if (value instanceof Map) {
             return normalizeMap((Map<?, ?>) value);
@@ -107,66 +159,45 @@ public final class ReturnNormalizer {
         return value;
     }
 
-    @SuppressWarnings("unchecked")
-    private Object normalizeValue(CypherType type, Object value) {
-        if (Tokens.NULL.equals(value)) {
-            return null;
-        } else if (type instanceof NodeType) {
-            return normalizeElement((Map<?, ?>) value, NODE_TYPE);
-        } else if (type instanceof RelationshipType) {
-            return normalizeRelationship((Map<?, ?>) value);
-        } else if (type instanceof PathType) {
-            return normalizePath((Map<?, ?>) value);
-        } else if (type instanceof IntegerType) {
-            return normalizeInteger(value);
-        } else if (type instanceof ListType) {
-            CypherType cypherType = ((ListType) type).innerType();
-            return ((Collection<?>) value)
-                .stream()
-                .map(v -> normalizeValue(cypherType, v))
-                .collect(Collectors.toList());
-        }
-
-        return normalizeValue(value);
-    }
-
     private Map<Object, Object> normalizeElement(Map<?, ?> value, String type) {
-        HashMap<Object, Object> result = new HashMap<>();
+        HashMap<Object, Object> result = new HashMap<>(capacity(value.size() + 1));
         result.put(TYPE, type);
         result.put(ID, getT(value, T.id));
         result.put(LABEL, getT(value, T.label));
 
         boolean gremlinTokensCanBeMapKeys = value.containsKey(T.id);
-        value.entrySet().stream()
-            .filter(e1 -> isProperty(e1, gremlinTokensCanBeMapKeys))
-            .forEach(
-                e -> {
-                    if (NODE_TYPE.equals(type) && isVertexValueList(e.getValue())) {
-                        result.put(e.getKey(), normalizeValue(((Collection) e.getValue()).iterator().next()));
-                    } else {
-                        result.put(e.getKey(), normalizeValue(e.getValue()));
-                    }
-                });
+        boolean isNode = NODE_TYPE.equals(type);
+        for (Entry<?, ?> e : value.entrySet()) {
+            if (!isProperty(e, gremlinTokensCanBeMapKeys)) {
+                continue;
+            }
+            if (isNode && isVertexValueList(e.getValue())) {
+                result.put(e.getKey(), normalizeValue(((Collection) e.getValue()).iterator().next()));
+            } else {
+                result.put(e.getKey(), normalizeValue(e.getValue()));
+            }
+        }
 
         return result;
     }
 
     private Map<Object, Object> normalizeRelationship(Map<?, ?> value) {
-        HashMap<Object, Object> result = new HashMap<>();
+        Map<?, ?> element = (Map<?, ?>) value.get(PROJECTION_ELEMENT);
+        HashMap<Object, Object> result = new HashMap<>(capacity(element == null ? 3 : element.size() + 3));
         result.put(TYPE, RELATIONSHIP_TYPE);
         result.put(INV, value.get(PROJECTION_INV));
         result.put(OUTV, value.get(PROJECTION_OUTV));
 
-        if (value.containsKey(PROJECTION_ELEMENT)) {
-            Map<?, ?> element = (Map<?, ?>) value.get(PROJECTION_ELEMENT);
-
+        if (element != null) {
             result.put(ID, getT(element, T.id));
             result.put(LABEL, getT(element, T.label));
 
             boolean gremlinTokensCanBeMapKeys = element.containsKey(T.id);
-            element.entrySet().stream()
-                .filter(e -> isProperty(e, gremlinTokensCanBeMapKeys))
-                .forEach(e -> result.put(e.getKey(), normalizeValue(e.getValue())));
+            for (Entry<?, ?> e : element.entrySet()) {
+                if (isProperty(e, gremlinTokensCanBeMapKeys)) {
+                    result.put(e.getKey(), normalizeValue(e.getValue()));
+                }
+            }
         }
 
         return result;
@@ -177,20 +208,20 @@ public final class ReturnNormalizer {
         List<Map<?, ?>> relationships = (List<Map<?, ?>>) value.get(PROJECTION_RELATIONSHIP);
         List<Map<?, ?>> elements = (List<Map<?, ?>>) value.get(PROJECTION_ELEMENT);
 
-        HashMap<Object, Map<?, ?>> relationshipMap = new HashMap<>();
+        HashMap<Object, Map<?, ?>> relationshipMap = new HashMap<>(capacity(relationships.size()));
         for (Map<?, ?> relationship : relationships) {
             relationshipMap.put(relationship.get(PROJECTION_ID), relationship);
         }
 
-        List<Object> result = new ArrayList<>();
+        List<Object> result = new ArrayList<>(elements.size());
         for (Map<?, ?> element : elements) {
             Object id = getT(element, T.id);
-            boolean isRelationship = relationshipMap.containsKey(id);
+            Map<?, ?> relationship = relationshipMap.get(id);
 
-            Map<Object, Object> normalized = normalizeElement(element, isRelationship ? RELATIONSHIP_TYPE : NODE_TYPE);
-            if (isRelationship) {
-                normalized.put(INV, relationshipMap.get(id).get(PROJECTION_INV));
-                normalized.put(OUTV, relationshipMap.get(id).get(PROJECTION_OUTV));
+            Map<Object, Object> normalized = normalizeElement(element, relationship != null ? RELATIONSHIP_TYPE : NODE_TYPE);
+            if (relationship != null) {
+                normalized.put(INV, relationship.get(PROJECTION_INV));
+                normalized.put(OUTV, relationship.get(PROJECTION_OUTV));
             }
 
             result.add(normalized);
@@ -200,25 +231,32 @@ public final class ReturnNormalizer {
     }
 
     private Map<?, ?> normalizeMap(Map<?, ?> map) {
-        LinkedHashMap<String, Object> result = new LinkedHashMap<>();
+        LinkedHashMap<String, Object> result = new LinkedHashMap<>(capacity(map.size()));
+        int i = 0;
         for (Entry<?, ?> e : map.entrySet()) {
             String key = String.valueOf(e.getKey());
-            Object value = variableTypes.containsKey(key) ?
-                normalizeValue(variableTypes.get(key), e.getValue()) :
+            Column column = i < columns.length && columnNames[i].equals(key) ?
+                columns[i] :
+                columnsByName.get(key);
+            Object value = column != null ?
+                column.normalize(e.getValue()) :
                 normalizeValue(e.getValue());
 
             result.put(key, value);
+            i++;
         }
         return result;
     }
 
     Collection<?> normalizeCollection(Collection<?> value) {
-        return value.stream()
-            .map(this::normalizeValue)
-            .collect(Collectors.toList());
+        List<Object> result = new ArrayList<>(value.size());
+        for (Object item : value) {
+            result.add(normalizeValue(item));
+        }
+        return result;
     }
 
-    private Object normalizeInteger(Object value) {
+    private static Object normalizeInteger(Object value) {
         if (value instanceof Number) {
             return ((Number) value).longValue();
         } else {
@@ -246,6 +284,10 @@ public final class ReturnNormalizer {
         return (e instanceof Collection) && ((Collection) e).size() == 1;
     }
 
+    private static int capacity(int size) {
+        return size < 3 ? size + 1 : (int) (size / 0.75f + 1.0f);
+    }
+
     private boolean isProperty(Entry<?, ?> e, boolean gremlinTokensCanBeMapKeys) {
         if (gremlinTokensCanBeMapKeys) {
             return !T.id.equals(e.getKey()) &&
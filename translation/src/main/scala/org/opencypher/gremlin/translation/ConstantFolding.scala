@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation
+
+import org.opencypher.v9_0.ast.Statement
+import org.opencypher.v9_0.expressions._
+import org.opencypher.v9_0.util.{InputPosition, Rewriter, bottomUp}
+
+import scala.util.Try
+
+/**
+  * Evaluates deterministic expressions over literals and known parameter values at translation time,
+  * e.g. `60 * 60 * 24`, `$now - 3600` or `toLower('ABC')`, and replaces them with literals,
+  * so that they are not evaluated for every row and can be used in `has` predicates.
+  *
+  * Expressions are only folded when the result is certain to match runtime evaluation;
+  * anything else (errors, overflow, non-finite numbers, mixed type comparisons) is left to the runtime.
+  * Parameter values should only be provided if the translation inlines them anyway,
+  * otherwise the translation would differ for every value.
+  */
+object ConstantFolding {
+
+  private case object NullValue
+
+  /**
+    * @param statement  normalized statement
+    * @param parameters parameter values by binding name, empty to keep parameters as they are
+    * @return statement with constant expressions replaced by literals
+    */
+  def apply(statement: Statement, parameters: Map[String, Any]): Statement = {
+    val rewriter = Rewriter.lift {
+      case expression: Expression =>
+        fold(expression, parameters)
+          .map(literal(_, expression.position))
+          .getOrElse(simplify(expression))
+    }
+    bottomUp(rewriter).apply(statement).asInstanceOf[Statement]
+  }
+
+  private def fold(expression: Expression, parameters: Map[String, Any]): Option[Any] = {
+    def values(operands: Expression*): Option[Seq[Any]] = {
+      val result = operands.flatMap(value(_, parameters))
+      if (result.length == operands.length) Some(result) else None
+    }
+
+    def binary(lhs: Expression, rhs: Expression)(f: (Any, Any) => Option[Any]): Option[Any] =
+      values(lhs, rhs).flatMap { case Seq(a, b) => f(a, b) }
+
+    expression match {
+      case Add(lhs, rhs)      => binary(lhs, rhs)(add)
+      case Subtract(lhs, rhs) => binary(lhs, rhs)(arithmetic(Math.subtractExact, _ - _))
+      case Multiply(lhs, rhs) => binary(lhs, rhs)(arithmetic(Math.multiplyExact, _ * _))
+      case Divide(lhs, rhs)   => binary(lhs, rhs)(arithmetic(divideExact, _ / _))
+      case Modulo(lhs, rhs)   => binary(lhs, rhs)(arithmetic(_ % _, _ % _))
+      case Pow(lhs, rhs)      => binary(lhs, rhs)(arithmetic(null, Math.pow))
+      case UnaryAdd(rhs)      => values(rhs).map(_.head).collect { case n: Number => n }
+      case UnaryMinus(rhs) =>
+        values(rhs).flatMap(_.head match {
+          case NullValue => Some(NullValue)
+          case l: Long   => Try(Math.negateExact(l)).toOption
+          case d: Double => Some(-d)
+          case _         => None
+        })
+
+      case Equals(lhs, rhs)             => binary(lhs, rhs)(equality(negate = false))
+      case NotEquals(lhs, rhs)          => binary(lhs, rhs)(equality(negate = true))
+      case LessThan(lhs, rhs)           => binary(lhs, rhs)(comparison(_ < 0))
+      case LessThanOrEqual(lhs, rhs)    => binary(lhs, rhs)(comparison(_ <= 0))
+      case GreaterThan(lhs, rhs)        => binary(lhs, rhs)(comparison(_ > 0))
+      case GreaterThanOrEqual(lhs, rhs) => binary(lhs, rhs)(comparison(_ >= 0))
+      case StartsWith(lhs, rhs)         => binary(lhs, rhs)(strings(_.startsWith(_)))
+      case EndsWith(lhs, rhs)           => binary(lhs, rhs)(strings(_.endsWith(_)))
+      case Contains(lhs, rhs)           => binary(lhs, rhs)(strings(_.contains(_)))
+
+      case IsNull(rhs)    => values(rhs).map(v => v.head == NullValue)
+      case IsNotNull(rhs) => values(rhs).map(v => v.head != NullValue)
+      case Not(rhs) =>
+        values(rhs).flatMap(_.head match {
+          case NullValue  => Some(NullValue)
+          case b: Boolean => Some(!b)
+          case _          => None
+        })
+      case Ands(exprs) => values(exprs.toSeq: _*).flatMap(logical(_, dominant = false))
+      case Ors(exprs)  => values(exprs.toSeq: _*).flatMap(logical(_, dominant = true))
+      case Xor(lhs, rhs) =>
+        binary(lhs, rhs) {
+          case (a: Boolean, b: Boolean)        => Some(a != b)
+          case (NullValue, _) | (_, NullValue) => Some(NullValue)
+          case _                               => None
+        }
+
+      case FunctionInvocation(Namespace(Nil), FunctionName(fnName), false, Seq(arg)) =>
+        values(arg).flatMap(v => function(fnName.toLowerCase, v.head))
+
+      case _ =>
+        None
+    }
+  }
+
+  private def value(expression: Expression, parameters: Map[String, Any]): Option[Any] = expression match {
+    case _: Null            => Some(NullValue)
+    case _: True            => Some(true)
+    case _: False           => Some(false)
+    case l: IntegerLiteral  => Some(l.value.longValue)
+    case l: DoubleLiteral   => finite(l.value)
+    case l: StringLiteral   => Some(l.value)
+    case Parameter(name, _) => parameters.get(CypherAst.bindingName(name)).flatMap(parameterValue)
+    case _                  => None
+  }
+
+  private def parameterValue(value: Any): Option[Any] = value match {
+    case l: Long                       => Some(l)
+    case i: Int                        => Some(i.toLong)
+    case s: Short                      => Some(s.toLong)
+    case b: Byte                       => Some(b.toLong)
+    case d: Double                     => finite(d)
+    case s: String if s != Tokens.NULL => Some(s)
+    case b: Boolean                    => Some(b)
+    case _                             => None
+  }
+
+  private def finite(d: Double): Option[Any] =
+    if (d.isNaN || d.isInfinite) None else Some(d)
+
+  private def add(a: Any, b: Any): Option[Any] = (a, b) match {
+    case (s: String, t: String) => Some(s + t)
+    case (s: String, n: Number) => Some(s + n)
+    case (n: Number, s: String) => Some(n.toString + s)
+    case _                      => arithmetic(Math.addExact, _ + _)(a, b)
+  }
+
+  private def arithmetic(integral: (Long, Long) => Long, floating: (Double, Double) => Double)(
+      a: Any,
+      b: Any): Option[Any] = (a, b) match {
+    case (NullValue, _: Number) | (_: Number, NullValue) | (NullValue, NullValue) =>
+      Some(NullValue)
+    case (x: Long, y: Long) if integral != null =>
+      // division by zero and overflow are runtime errors
+      Try(integral(x, y)).toOption
+    case (x: Number, y: Number) =>
+      finite(floating(x.doubleValue, y.doubleValue))
+    case _ =>
+      None
+  }
+
+  private def divideExact(x: Long, y: Long): Long = {
+    if (x == Long.MinValue && y == -1) {
+      throw new ArithmeticException("long overflow")
+    }
+    x / y
+  }
+
+  private def compare(a: Any, b: Any): Option[Int] = (a, b) match {
+    case (x: Long, y: Long) =>
+      Some(java.lang.Long.compare(x, y))
+    case (x: Number, y: Number) if exactDouble(x) && exactDouble(y) =>
+      Some(java.lang.Double.compare(x.doubleValue, y.doubleValue))
+    case (x: String, y: String) =>
+      Some(x.compareTo(y))
+    case _ =>
+      None
+  }
+
+  private def exactDouble(n: Number): Boolean = n match {
+    case l: java.lang.Long => Math.abs(l.longValue) <= (1L << 53)
+    case _                 => true
+  }
+
+  private def equality(negate: Boolean)(a: Any, b: Any): Option[Any] = (a, b) match {
+    case (NullValue, _) | (_, NullValue) => Some(NullValue)
+    case (x: Boolean, y: Boolean)        => Some((x == y) != negate)
+    case _                               => compare(a, b).map(c => (c == 0) != negate)
+  }
+
+  private def comparison(test: Int => Boolean)(a: Any, b: Any): Option[Any] = (a, b) match {
+    case (NullValue, _) | (_, NullValue) => Some(NullValue)
+    case _                               => compare(a, b).map(test)
+  }
+
+  private def strings(test: (String, String) => Boolean)(a: Any, b: Any): Option[Any] = (a, b) match {
+    case (NullValue, _) | (_, NullValue) => Some(NullValue)
+    case (s: String, t: String)          => Some(test(s, t))
+    case _                               => None
+  }
+
+  /**
+    * Three-valued `AND` (`dominant = false`) or `OR` (`dominant = true`).
+    */
+  private def logical(operands: Seq[Any], dominant: Boolean): Option[Any] = {
+    if (operands.exists(_ == dominant)) {
+      Some(dominant)
+    } else if (operands.forall(_ == !dominant)) {
+      Some(!dominant)
+    } else if (operands.forall(o => o == NullValue || o == !dominant)) {
+      Some(NullValue)
+    } else {
+      None
+    }
+  }
+
+  private def function(name: String, arg: Any): Option[Any] = (name, arg) match {
+    case (_, NullValue) if Functions.contains(name) => Some(NullValue)
+    case ("tolower", s: String)                     => Some(s.toLowerCase)
+    case ("toupper", s: String)                     => Some(s.toUpperCase)
+    case ("trim", s: String)                        => Some(s.trim)
+    case ("reverse", s: String)                     => Some(new java.lang.StringBuilder(s).reverse().toString)
+    case ("size", s: String)                        => Some(s.length.toLong)
+    case ("tostring", v @ (_: String | _: Number | _: Boolean)) =>
+      Some(v.toString)
+    case ("tointeger", l: Long)   => Some(l)
+    case ("tointeger", d: Double) => Some(d.toLong)
+    case ("tointeger", s: String) =>
+      Try(java.lang.Long.parseLong(s))
+        .orElse(Try(java.lang.Double.parseDouble(s).toLong))
+        .toOption
+        .orElse(Some(NullValue))
+    case ("tofloat", n: Number) => Some(n.doubleValue)
+    case ("tofloat", s: String) =>
+      Try(java.lang.Double.parseDouble(s)).toOption.orElse(Some(NullValue))
+    case ("abs", l: Long) if l != Long.MinValue    => Some(Math.abs(l))
+    case ("abs", d: Double)                        => Some(Math.abs(d))
+    case ("sign", n: Number)                       => Some(Math.signum(n.doubleValue).toLong)
+    case ("ceil", d: Double)                       => Some(Math.ceil(d))
+    case ("floor", d: Double)                      => Some(Math.floor(d))
+    case ("sqrt", n: Number) if n.doubleValue >= 0 => Some(Math.sqrt(n.doubleValue))
+    case _                                         => None
+  }
+
+  private val Functions = Set(
+    "tolower",
+    "toupper",
+    "trim",
+    "reverse",
+    "size",
+    "tostring",
+    "tointeger",
+    "tofloat",
+    "abs",
+    "sign",
+    "ceil",
+    "floor",
+    "sqrt"
+  )
+
+  /**
+    * Drops constant operands that don't affect the result of partially constant `AND` and `OR`.
+    */
+  private def simplify(expression: Expression): Expression = expression match {
+    case ands @ Ands(exprs) if exprs.exists(_.isInstanceOf[False]) =>
+      False()(ands.position)
+    case ands @ Ands(exprs) if exprs.exists(_.isInstanceOf[True]) =>
+      val remaining = exprs.filterNot(_.isInstanceOf[True])
+      if (remaining.size == 1) remaining.head else Ands(remaining)(ands.position)
+    case ors @ Ors(exprs) if exprs.exists(_.isInstanceOf[True]) =>
+      True()(ors.position)
+    case ors @ Ors(exprs) if exprs.exists(_.isInstanceOf[False]) =>
+      val remaining = exprs.filterNot(_.isInstanceOf[False])
+      if (remaining.size == 1) remaining.head else Ors(remaining)(ors.position)
+    case _ =>
+      expression
+  }
+
+  private def literal(value: Any, position: InputPosition): Expression = value match {
+    case NullValue  => Null()(position)
+    case true       => True()(position)
+    case false      => False()(position)
+    case l: Long    => SignedDecimalIntegerLiteral(l.toString)(position)
+    case d: Double  => DecimalDoubleLiteral(d.toString)(position)
+    case s: String  => StringLiteral(s)(position)
+  }
+}
@@ -16,26 +16,28 @@
 package org.opencypher.gremlin.translation
 
 import java.util
-import java.util.Collections
+import java.util.{Collections, Optional}
 
 import org.opencypher.gremlin.extension.CypherBindingType._
 import org.opencypher.gremlin.extension.CypherProcedures.procedureName
 import org.opencypher.gremlin.extension._
 import org.opencypher.gremlin.translation.context.WalkerContext
 import org.opencypher.gremlin.translation.exception.SyntaxException
+import org.opencypher.gremlin.translation.groovy.GroovyGremlinPredicates
 import org.opencypher.gremlin.translation.ir.TranslationWriter
 import org.opencypher.gremlin.translation.ir.builder.{IRGremlinBindings, IRGremlinPredicates, IRGremlinSteps}
-import org.opencypher.gremlin.translation.ir.model.GremlinStep
+import org.opencypher.gremlin.translation.ir.model.{GremlinBinding, GremlinPredicate, GremlinStep}
 import org.opencypher.gremlin.translation.preparser._
 import org.opencypher.gremlin.translation.translator.TranslatorFeature.{CYPHER_EXTENSIONS, MULTIPLE_LABELS}
 import org.opencypher.gremlin.translation.translator.{Translator, TranslatorFeature, TranslatorFlavor}
+import org.opencypher.gremlin.translation.traversal.TraversalGremlinBindings
 import org.opencypher.gremlin.translation.walker.StatementWalker
 import org.opencypher.gremlin.traversal.ProcedureContext
 import org.opencypher.v9_0.ast._
 import org.opencypher.v9_0.expressions._
 import org.opencypher.v9_0.frontend.phases._
 import org.opencypher.v9_0.rewriting.RewriterStepSequencer
-import org.opencypher.v9_0.rewriting.rewriters.Never
+import org.opencypher.v9_0.rewriting.rewriters.{Forced, Never}
 import org.opencypher.v9_0.util.symbols._
 import org.opencypher.v9_0.util.{ASTNode, CypherException}
 
@@ -48,7 +50,8 @@ import scala.collection.mutable
   * for executing a Gremlin traversal.
   *
   * @param statement       AST root node
-  * @param parameters      Cypher query parameters
+  * @param parameters      Cypher query parameters, including extracted literals
+  * @param extracted       literals extracted from the query, by binding name
   * @param expressionTypes expression Cypher types
   * @param returnTypes     return types by alias
   * @param options         pre-parser options provided by Cypher parser
@@ -56,6 +59,7 @@ import scala.collection.mutable
 class CypherAst private (
     val statement: Statement,
     parameters: Map[String, Any],
+    extracted: Map[String, Any],
     expressionTypes: Map[Expression, CypherType],
     returnTypes: Map[String, CypherType],
     options: Seq[PreParserOption]) {
@@ -84,6 +88,14 @@ class CypherAst private (
       flavor: TranslatorFlavor,
       features: util.Collection[TranslatorFeature],
       procedures: ProcedureContext): Seq[GremlinStep] = {
+    translate(flavor, features, procedures, statement)
+  }
+
+  private def translate(
+      flavor: TranslatorFlavor,
+      features: util.Collection[TranslatorFeature],
+      procedures: ProcedureContext,
+      statement: Statement): Seq[GremlinStep] = {
     val dslBuilder = Translator
       .builder()
       .custom(
@@ -116,10 +128,71 @@ class CypherAst private (
     * @return to-Gremlin translation
     */
   def buildTranslation[T, P](dsl: Translator[T, P]): T = {
-    val ir = translate(dsl.flavor(), dsl.features(), ProcedureContext.empty())
+    val ir = translate(dsl.flavor(), dsl.features(), ProcedureContext.empty(), inlinedStatement(dsl))
     TranslationWriter.write(ir, dsl, parameters)
   }
 
+  /**
+    * Creates a translation to Gremlin that can be reused for other values of the same parameters.
+    * A translation is reusable if it refers to every parameter as a binding,
+    * instead of inlining the parameter value.
+    *
+    * @param dsl instance of [[Translator]]
+    * @tparam T translation target type
+    * @tparam P predicate target type
+    * @return reusable translation, or empty if the translation inlines parameter values
+    */
+  def buildReusableTranslation[T, P](dsl: Translator[T, P]): Optional[T] = {
+    val ir = translate(dsl.flavor(), dsl.features(), ProcedureContext.empty())
+    if (isReusable(ir, dsl)) {
+      Optional.of(TranslationWriter.write(ir, dsl, parameters))
+    } else {
+      Optional.empty()
+    }
+  }
+
+  /**
+    * Parameter values can only be folded into constants if the translation inlines them anyway.
+    * Otherwise, the translation would differ for each value of a parameter or an extracted literal.
+    */
+  private def inlinedStatement[T, P](dsl: Translator[T, P]): Statement = {
+    if (dsl.bindings().isInstanceOf[TraversalGremlinBindings]) {
+      ConstantFolding(statement, parameters)
+    } else {
+      statement
+    }
+  }
+
+  private def isReusable[T, P](ir: Seq[GremlinStep], dsl: Translator[T, P]): Boolean = {
+    // Only Groovy predicates keep bindings, other predicates take parameter values
+    val predicateBindings = dsl.predicates().isInstanceOf[GroovyGremlinPredicates]
+
+    !dsl.bindings().isInstanceOf[TraversalGremlinBindings] &&
+    bindings(ir, inPredicate = false).forall { case (_, inPredicate) => predicateBindings || !inPredicate } &&
+    bindsParameters(ir)
+  }
+
+  /**
+    * Checks whether a translation refers to every parameter as a binding, instead of inlining the parameter value.
+    * Such a translation can be written again with other values of the same parameters,
+    * without parsing or rewriting the query.
+    *
+    * @param ir intermediate representation of the translation, see [[translate]]
+    * @return true if the translation does not depend on parameter values
+    */
+  def bindsParameters(ir: Seq[GremlinStep]): Boolean = {
+    val found = bindings(ir, inPredicate = false).map(_._1).toSet
+    CypherAst.parameterNames(statement).subsetOf(found)
+  }
+
+  private def bindings(value: Any, inPredicate: Boolean): Seq[(String, Boolean)] = value match {
+    case GremlinBinding(name) => (name, inPredicate) :: Nil
+    case p: GremlinPredicate  => p.productIterator.toSeq.flatMap(bindings(_, inPredicate = true))
+    case s: Seq[_]            => s.flatMap(bindings(_, inPredicate))
+    case p: Product           => p.productIterator.toSeq.flatMap(bindings(_, inPredicate))
+    case _                    => Nil
+  }
+
   private val javaOptions: util.Set[StatementOption] = options.flatMap {
     case ExplainOption => Some(StatementOption.EXPLAIN)
     case _             => None // ignore unknown
@@ -134,6 +207,25 @@ class CypherAst private (
     new util.HashSet(javaOptions)
   }
 
+  /**
+    * Checks whether this query modifies the graph.
+    *
+    * @return true if the query contains updating clauses
+    */
+  def isUpdating: Boolean = {
+    statement.findByAllClass[UpdateClause].nonEmpty
+  }
+
+  /**
+    * Gets literal values extracted from the query, by binding name.
+    * These have to be provided as bindings along with the translation.
+    *
+    * @return map of binding names to values, empty unless parsed with [[CypherAst.parseExtractingLiterals]]
+    */
+  def getExtractedParameters: util.Map[String, Object] = {
+    new util.HashMap[String, Object](extracted.mapValues(_.asInstanceOf[AnyRef]).asJava)
+  }
+
   /**
     * Gets types or return items
     *
@@ -180,7 +272,7 @@ class CypherAst private (
 /**
   * Convenience object for [[CypherAst]] construction.
   * Delegates to Neo4j Cypher frontend.
-  * See [[CompilationPhases.parsing]] and [[Normalization]] for a list of AST rewriters in use.
+  * See [[CompilationPhases.parsing]], [[Normalization]] and [[ConstantFolding]] for a list of AST rewriters in use.
   */
 object CypherAst {
 
@@ -222,28 +314,82 @@ object CypherAst {
       procedures: util.Map[String, CypherProcedureSignature]): CypherAst = {
     val scalaParameters = parameters.asScala.toMap
     val scalaProcedures = procedures.asScala.toMap
-    parse(queryText, scalaParameters, scalaProcedures)
+    parse(queryText, scalaParameters, scalaProcedures, extractLiterals = false)
+  }
+
+  /**
+    * Constructs a new Cypher AST from the provided query,
+    * replacing literal values in the query with parameters.
+    * Extracted parameters get deterministic binding names, numbered in order of appearance,
+    * so queries that only differ in literal values have the same translation.
+    *
+    * @param queryText  Cypher query
+    * @param parameters Cypher query parameters
+    * @return Cypher AST wrapper
+    * @see [[CypherAst.getExtractedParameters]]
+    */
+  @throws[CypherException]
+  def parseExtractingLiterals(queryText: String, parameters: util.Map[String, _]): CypherAst = {
+    val scalaParameters = parameters.asScala.toMap
+    parse(queryText, scalaParameters, Map.empty, extractLiterals = true)
+  }
+
+  private val ExtractedPrefix = "  AUTO"
+
+  /**
+    * Gets the binding name of a parameter.
+    * The Cypher frontend names extracted literals like `  AUTOINT0`, which is not a valid identifier.
+    */
+  private[translation] def bindingName(name: String): String = {
+    if (name.startsWith(ExtractedPrefix)) {
+      "cypher_auto" + name.substring(ExtractedPrefix.length).toLowerCase
+    } else {
+      name
+    }
   }
 
   @throws[CypherException]
   private def parse(
       queryText: String,
       parameters: Map[String, Any],
-      procedures: Map[String, CypherProcedureSignature]): CypherAst = {
+      procedures: Map[String, CypherProcedureSignature],
+      extractLiterals: Boolean): CypherAst = {
     val PreParsedStatement(preParsedQueryText, options, offset) = CypherPreParser(queryText)
     val startState = InitialState(preParsedQueryText, Some(offset), EmptyPlannerName)
+    val literalExtraction = if (extractLiterals) Forced else Never
     val state = CompilationPhases
-      .parsing(RewriterStepSequencer.newPlain, literalExtraction = Never)
+      .parsing(RewriterStepSequencer.newPlain, literalExtraction = literalExtraction)
       .andThen(isolateAggregation)
       .andThen(SemanticAnalysis(warn = false))
       .andThen(Normalization)
       .transform(startState, EmptyParserContext(preParsedQueryText, Some(offset)))
 
-    val statement = state.statement()
+    val normalized = state.statement()
     val expressionTypes = getExpressionTypes(state)
-    val returnTypes = getReturnTypes(expressionTypes, statement, procedures)
+    val returnTypes = getReturnTypes(expressionTypes, normalized, procedures)
 
-    new CypherAst(statement, parameters, expressionTypes, returnTypes, options)
+    val extracted =
+      if (extractLiterals) {
+        state.extractedParams().map { case (name, value) => (bindingName(name), extractedValue(value)) }
+      } else {
+        Map.empty[String, Any]
+      }
+
+    // Parameters (including extracted literals) are kept as bindings, see `inlinedStatement`
+    val statement = ConstantFolding(normalized, Map.empty)
+
+    new CypherAst(statement, parameters ++ extracted, extracted, expressionTypes, returnTypes, options)
+  }
+
+  private def parameterNames(statement: Statement): Set[String] = {
+    statement.findByAllClass[Parameter].map(p => bindingName(p.name)).toSet
+  }
+
+  private def extractedValue(value: Any): Any = {
+    value match {
+      case list: Seq[_] => list.map(extractedValue).asJava
+      case v            => v
+    }
   }
 
   private def getExpressionTypes(state: BaseState): Map[Expression, CypherType] = {
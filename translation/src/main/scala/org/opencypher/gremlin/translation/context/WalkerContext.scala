@@ -15,6 +15,7 @@
  */
 package org.opencypher.gremlin.translation.context
 
+import org.opencypher.gremlin.translation.CypherAst
 import org.opencypher.gremlin.translation.translator.Translator
 import org.opencypher.gremlin.traversal.ProcedureContext
 import org.opencypher.v9_0.expressions.Expression
@@ -47,13 +48,14 @@ sealed class WalkerContext[T, P](
     private val parameters: Map[String, Any]) {
 
   def parameter(name: String): Object = {
-    val value = parameters.get(name).orNull
-    val parameter = dsl.bindings().bind(name, value)
+    val bindingName = CypherAst.bindingName(name)
+    val value = parameters.get(bindingName).orNull
+    val parameter = dsl.bindings().bind(bindingName, value)
     parameter.asInstanceOf[Object]
   }
 
   def inlineParameter[R](name: String, klass: Class[R]): R = {
-    val value = parameters.get(name).orNull
+    val value = parameters.get(CypherAst.bindingName(name)).orNull
     if (klass.isInstance(value)) {
       value.asInstanceOf[R]
     } else {
@@ -114,11 +116,40 @@ sealed class WalkerContext[T, P](
     nameGenerator.next()
   }
 
+  private var precomputedExpressions = Map.empty[Expression, String]
+
+  /**
+    * Returns the name under which the value of an expression was computed for the current row, if any.
+    *
+    * @param expression expression
+    * @return projection key
+    */
+  def precomputed(expression: Expression): Option[String] = {
+    precomputedExpressions.get(expression)
+  }
+
+  /**
+    * Makes expression walkers reference precomputed values instead of evaluating the expressions.
+    *
+    * @param expressions projection keys by expression
+    * @param body        code that walks expressions
+    */
+  def withPrecomputed[R](expressions: Map[Expression, String])(body: => R): R = {
+    val previous = precomputedExpressions
+    precomputedExpressions = previous ++ expressions
+    try {
+      body
+    } finally {
+      precomputedExpressions = previous
+    }
+  }
+
   def copy(): WalkerContext[T, P] = {
     val result = WalkerContext(dsl, expressionTypes, procedures, parameters)
     result.firstStatement = firstStatement
     result.referencedAliases ++= referencedAliases
     result.nameGenerator = nameGenerator
+    result.precomputedExpressions = precomputedExpressions
     result
   }
 }
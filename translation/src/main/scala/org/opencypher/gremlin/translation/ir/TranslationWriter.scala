@@ -136,6 +136,8 @@ sealed class TranslationWriter[T, P] private (translator: Translator[T, P], para
           g.flatMap(writeLocalSteps(traversal))
         case Fold =>
           g.fold()
+        case FoldR(reducer) =>
+          g.fold(reducer)
         case From(fromStepLabel) =>
           g.from(fromStepLabel)
         case Group =>
@@ -20,7 +20,7 @@ import org.apache.tinkerpop.gremlin.structure.Column
 import org.apache.tinkerpop.gremlin.structure.VertexProperty.Cardinality
 import org.opencypher.gremlin.translation.GremlinSteps
 import org.opencypher.gremlin.translation.ir.model._
-import org.opencypher.gremlin.traversal.CustomFunction
+import org.opencypher.gremlin.traversal.{CustomFunction, CustomReducer}
 
 import scala.collection.mutable
 
@@ -192,6 +192,11 @@ class IRGremlinSteps extends GremlinSteps[Seq[GremlinStep], GremlinPredicate] {
     this
   }
 
+  override def fold(reducer: CustomReducer): GremlinSteps[Seq[GremlinStep], GremlinPredicate] = {
+    buf += FoldR(reducer)
+    this
+  }
+
   override def from(fromStepLabel: String): GremlinSteps[Seq[GremlinStep], GremlinPredicate] = {
     buf += From(fromStepLabel)
     this
@@ -18,7 +18,7 @@ package org.opencypher.gremlin.translation.ir.model
 import org.apache.tinkerpop.gremlin.process.traversal.{Pop, Scope, Order => TraversalOrder}
 import org.apache.tinkerpop.gremlin.structure.Column
 import org.apache.tinkerpop.gremlin.structure.VertexProperty.Cardinality
-import org.opencypher.gremlin.traversal.CustomFunction
+import org.opencypher.gremlin.traversal.{CustomFunction, CustomReducer}
 
 sealed trait GremlinStep {
 
@@ -177,6 +177,8 @@ case class FlatMapT(traversal: Seq[GremlinStep]) extends GremlinStep {
 
 case object Fold extends GremlinStep
 
+case class FoldR(reducer: CustomReducer) extends GremlinStep
+
 case class From(fromStepLabel: String) extends GremlinStep
 
 case object Group extends GremlinStep
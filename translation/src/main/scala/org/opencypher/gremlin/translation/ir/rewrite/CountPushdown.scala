@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.ir.rewrite
+
+import org.apache.tinkerpop.gremlin.structure.Column
+import org.opencypher.gremlin.translation.Tokens.NULL
+import org.opencypher.gremlin.translation.ir.model._
+
+/**
+  * This rule moves counting in count-only projections closer to the graph steps,
+  * so that providers (and TinkerPop count strategies) can answer them without iterating elements:
+  *  - null checks on graph step results are removed, e.g. `V().hasLabel('L').is(neq(NULL)).count()`
+  *    becomes `V().hasLabel('L').count()`;
+  *  - grouping vertices by themselves to count their relationships is replaced with a degree count,
+  *    e.g. `V().as('n').outE('R').inV().select('n').group().by(identity()).by(...)`
+  *    becomes `V().as('n').where(outE('R')).project(...).by(identity()).by(outE('R').count())`.
+  */
+object CountPushdown extends GremlinRewriter {
+  override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
+    Seq(
+      removeNullCheck(_),
+      degreeCount(_)
+    ).foldLeft(steps) { (steps, rewriter) =>
+      rewriter(steps)
+    }
+  }
+
+  private def removeNullCheck(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
+    steps match {
+      case (graphStep @ (Vertex | Edge)) :: rest =>
+        val (filters, afterFilters) = rest.span(isFilter)
+        afterFilters match {
+          case Is(Neq(NULL)) :: Count :: tail => (graphStep +: filters) ++ (Count +: tail)
+          case _                              => steps
+        }
+      case _ =>
+        steps
+    }
+  }
+
+  private def degreeCount(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
+    steps match {
+      case Vertex :: rest =>
+        val (filters, afterFilters) = rest.span(isFilter)
+        val replacement = afterFilters match {
+          case edgeStep :: vertexStep :: SelectK(key) :: Group :: By(Identity :: Nil, None) ::
+                By(Fold :: Project(keys @ _*) :: bys, None) :: Unfold :: SelectC(Column.values) :: tail
+              if filters.contains(As(key)) && isAdjacent(edgeStep, vertexStep) =>
+            degreeProjection(edgeStep, keys, bys).map { projection =>
+              (Vertex +: filters) ++ (WhereT(edgeStep :: Nil) +: projection) ++ tail
+            }
+          case _ =>
+            None
+        }
+        replacement.getOrElse(steps)
+      case _ =>
+        steps
+    }
+  }
+
+  private def degreeProjection(
+      edgeStep: GremlinStep,
+      keys: Seq[String],
+      bys: Seq[GremlinStep]): Option[Seq[GremlinStep]] = {
+    val degreeBys = bys.map {
+      case By(Unfold :: Nil, None)                           => Some(By(Identity :: Nil))
+      case By(Unfold :: Count :: Nil, None)                  => Some(By(edgeStep :: Count :: Nil))
+      case By(Unfold :: Is(Neq(NULL)) :: Count :: Nil, None) => Some(By(edgeStep :: Count :: Nil))
+      case _                                                 => None
+    }
+    if (keys.size == bys.size && degreeBys.forall(_.isDefined)) {
+      Some(Project(keys: _*) +: degreeBys.flatten)
+    } else {
+      None
+    }
+  }
+
+  private def isAdjacent(edgeStep: GremlinStep, vertexStep: GremlinStep): Boolean = {
+    (edgeStep, vertexStep) match {
+      case (_: OutE, InV) => true
+      case (_: InE, OutV) => true
+      case _              => false
+    }
+  }
+
+  private def isFilter(step: GremlinStep): Boolean = {
+    step match {
+      case _: As | _: HasLabel | _: HasP | _: Has | _: HasNot => true
+      case _                                                  => false
+    }
+  }
+}
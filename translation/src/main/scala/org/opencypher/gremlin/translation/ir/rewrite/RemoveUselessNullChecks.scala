@@ -52,6 +52,7 @@ object RemoveUselessNullChecks extends GremlinRewriter {
     val mapsToNull = foldTraversals(false)({ (acc, steps) =>
       acc || steps.exists {
         case MapF(_)        => true
+        case FoldR(_)       => true
         case Constant(NULL) => true
         case _              => false
       }
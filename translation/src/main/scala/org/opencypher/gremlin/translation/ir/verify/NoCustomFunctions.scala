@@ -41,6 +41,7 @@ object NoCustomFunctions extends GremlinPostCondition {
   private def extractFunctionNames(steps: Seq[GremlinStep]): Seq[String] = {
     val functions = extract({
       case MapF(function) :: _ => function.getName
+      case FoldR(reducer) :: _ => reducer.getName
     })(steps)
 
     val predicates = extract({
@@ -51,7 +51,8 @@ object TranslatorFlavor {
       SimplifyEdgeTraversal,
       SimplifyDelete,
       RemoveUnusedAliases,
-      RemoveUselessSteps
+      RemoveUselessSteps,
+      CountPushdown
     ),
     postConditions = Seq(
       NoEmptyTraversals
@@ -17,7 +17,7 @@ package org.opencypher.gremlin.translation.walker
 
 import org.apache.tinkerpop.gremlin.process.traversal.Scope
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalOptionParent.Pick
-import org.apache.tinkerpop.gremlin.structure.Column.keys
+import org.apache.tinkerpop.gremlin.structure.Column.{keys, values}
 import org.apache.tinkerpop.gremlin.structure.Vertex
 import org.opencypher.gremlin.translation.GremlinSteps
 import org.opencypher.gremlin.translation.Tokens._
@@ -61,6 +61,10 @@ object ExpressionWalker {
 
 private class ExpressionWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]) {
   private val p = context.dsl.predicates()
+  private val typedArithmetic = context.dsl.isEnabled(TranslatorFeature.CYPHER_EXTENSIONS)
+  private val compileExpressions =
+    context.dsl.isEnabled(TranslatorFeature.COMPILED_EXPRESSIONS) &&
+      context.dsl.isEnabled(TranslatorFeature.CYPHER_EXTENSIONS)
 
   def walk(node: Expression): Unit = {
     g.flatMap(walkLocal(node))
@@ -73,6 +77,26 @@ private class ExpressionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
   }
 
   private def walkLocal(expression: Expression, maybeAlias: Option[String]): GremlinSteps[T, P] = {
+    context.precomputed(expression) match {
+      case Some(name) =>
+        __.select(name)
+      case None =>
+        val maybeCompiled =
+          if (compileExpressions) ScalarExpressionCompiler.compile(expression, typeOf, isPrecomputed)
+          else None
+
+        maybeCompiled match {
+          case Some((program, operands)) => compiled(program, operands, maybeAlias)
+          case None                      => walkExpression(expression, maybeAlias)
+        }
+    }
+  }
+
+  private def isPrecomputed(expression: Expression): Boolean = {
+    context.precomputed(expression).isDefined
+  }
+
+  private def walkExpression(expression: Expression, maybeAlias: Option[String]): GremlinSteps[T, P] = {
     expression match {
       case Variable(varName) =>
         __.select(varName)
@@ -171,17 +195,19 @@ private class ExpressionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
         (typeOf(lhs), typeOf(rhs)) match {
           case (_: ListType, _) | (_, _: ListType) =>
             listConcat(lhs, rhs)
+          case (_: IntegerType | _: FloatType, _: IntegerType | _: FloatType) if typedArithmetic =>
+            arithmetic(lhs, rhs, "+")
           case (_: IntegerType, _: IntegerType) =>
             math(lhs, rhs, "+")
           case _ =>
             asList(lhs, rhs).map(CustomFunction.cypherPlus())
         }
 
-      case Subtract(lhs, rhs) => math(lhs, rhs, "-")
-      case Multiply(lhs, rhs) => math(lhs, rhs, "*")
-      case Divide(lhs, rhs)   => math(lhs, rhs, "/")
-      case Pow(lhs, rhs)      => math(lhs, rhs, "^")
-      case Modulo(lhs, rhs)   => math(lhs, rhs, "%")
+      case Subtract(lhs, rhs) => arithmetic(lhs, rhs, "-")
+      case Multiply(lhs, rhs) => arithmetic(lhs, rhs, "*")
+      case Divide(lhs, rhs)   => arithmetic(lhs, rhs, "/")
+      case Pow(lhs, rhs)      => arithmetic(lhs, rhs, "^")
+      case Modulo(lhs, rhs)   => arithmetic(lhs, rhs, "%")
 
       case ContainerIndex(expr, idx) =>
         (typeOf(expr), idx) match {
@@ -213,6 +239,14 @@ private class ExpressionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
             asList(expr, fromIdx, toIdx).map(CustomFunction.cypherListSlice())
         }
 
+      case FunctionInvocation(_, FunctionName(fnName), false, Seq(pattern: PatternExpression))
+          if fnName.toLowerCase == "exists" =>
+        anyMatch(walkLocal(pattern, maybeAlias))
+
+      case FunctionInvocation(_, FunctionName(fnName), false, Seq(DegreePattern(name, direction, types)))
+          if fnName.toLowerCase == "size" =>
+        degree(name, direction, types)
+
       case FunctionInvocation(_, FunctionName(fnName), distinct, args) =>
         lazy val onEntity = isElement(args.head, context)
         lazy val a3 = args.size == 3
@@ -356,6 +390,15 @@ private class ExpressionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
     NodeUtils.asList(expressions.toList, context)
   }
 
+  private def compiled(program: String, operands: Seq[Expression], maybeAlias: Option[String]): GremlinSteps[T, P] = {
+    val names = operands.map(_ => context.generateName())
+    val traversal = __.project(names: _*)
+    operands.map(walkLocal(_, maybeAlias)).foreach(traversal.by)
+    traversal
+      .select(values)
+      .map(CustomFunction.cypherScalar(program))
+  }
+
   private def bothNotNull(
       lhs: Expression,
       rhs: Expression,
@@ -435,6 +478,22 @@ private class ExpressionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
       )
   }
 
+  private def arithmetic(lhs: Expression, rhs: Expression, op: String): GremlinSteps[T, P] = {
+    if (!typedArithmetic) {
+      return math(lhs, rhs, op)
+    }
+
+    val function = (typeOf(lhs), typeOf(rhs)) match {
+      case (_: IntegerType, _: IntegerType) if op != "^" =>
+        CustomFunction.cypherLongArithmetic(op)
+      case (_: IntegerType | _: FloatType, _: IntegerType | _: FloatType) =>
+        CustomFunction.cypherDoubleArithmetic(op)
+      case _ =>
+        CustomFunction.cypherArithmetic(op)
+    }
+    asList(lhs, rhs).map(function)
+  }
+
   private def math(lhs: Expression, rhs: Expression, op: String): GremlinSteps[T, P] = {
     val rhsName = generateMathName
     val traversal = __.math(s"_ $op $rhsName")
@@ -572,6 +631,16 @@ private class ExpressionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
       .select(rangeLabel)
   }
 
+  private def degree(name: String, direction: SemanticDirection, types: Seq[String]): GremlinSteps[T, P] = {
+    val traversal = __.select(name).is(p.neq(NULL))
+    direction match {
+      case SemanticDirection.OUTGOING => traversal.outE(types: _*)
+      case SemanticDirection.INCOMING => traversal.inE(types: _*)
+      case SemanticDirection.BOTH     => traversal.bothE(types: _*).dedup()
+    }
+    traversal.count()
+  }
+
   private def size(args: Seq[Expression]): GremlinSteps[T, P] = {
     val typ = typeOf(args.head)
     typ match {
@@ -639,3 +708,45 @@ private class ExpressionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
     g.start().map(steps)
   }
 }
+
+/**
+  * Single relationship pattern between a bound node and an anonymous one,
+  * e.g. `(a)-[:KNOWS]->()`, that can be answered by the degree of the bound node.
+  * The bound node can not have labels or properties, as these would filter it.
+  * Extracts the bound node name, the direction from it and the relationship types.
+  */
+private object DegreePattern {
+  def unapply(expression: Expression): Option[(String, SemanticDirection, Seq[String])] = expression match {
+    case PatternExpression(RelationshipsPattern(RelationshipChain(left: NodePattern, relationship, right)))
+        if isAnonymous(relationship) =>
+      val types = relationship.types.map(_.name).distinct
+      (left, right) match {
+        case (NodePattern(Some(Variable(name)), _, _, _), _) if isBound(left) && isAnonymous(right) =>
+          Some((name, relationship.direction, types))
+        case (_, NodePattern(Some(Variable(name)), _, _, _)) if isBound(right) && isAnonymous(left) =>
+          Some((name, relationship.direction.reversed, types))
+        case _ =>
+          None
+      }
+    case _ =>
+      None
+  }
+
+  private def isBound(node: NodePattern): Boolean = {
+    node.variable.exists(v => !isGenerated(v.name)) && node.labels.isEmpty && node.properties.isEmpty
+  }
+
+  private def isAnonymous(node: NodePattern): Boolean = {
+    node.variable.forall(v => isGenerated(v.name)) && node.labels.isEmpty && node.properties.isEmpty
+  }
+
+  private def isAnonymous(relationship: RelationshipPattern): Boolean = {
+    relationship.variable.forall(v => isGenerated(v.name)) &&
+    relationship.length.isEmpty &&
+    relationship.properties.isEmpty
+  }
+
+  private def isGenerated(name: String): Boolean = {
+    name.startsWith(UNNAMED) || name.startsWith(FRESHID)
+  }
+}
@@ -83,6 +83,18 @@ object NodeUtils {
     }
   }
 
+  private val nonDeterministicFunctions = Set("rand", "randomuuid", "timestamp")
+
+  /**
+    * @return false if the expression may evaluate to different values on each evaluation
+    */
+  def isDeterministic(expression: Expression): Boolean = {
+    !expression.findByAllClass[FunctionInvocation].exists {
+      case FunctionInvocation(_, FunctionName(fnName), _, _) =>
+        nonDeterministicFunctions.contains(fnName.toLowerCase)
+    }
+  }
+
   def inlineFunction(name: String, arg: Option[AnyRef]): Option[AnyRef] = {
     (name, arg) match {
       case ("abs", Some(n: java.lang.Double))       => Some(Math.abs(n).asInstanceOf[AnyRef])
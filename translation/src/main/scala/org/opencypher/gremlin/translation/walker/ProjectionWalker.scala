@@ -23,9 +23,9 @@ import org.opencypher.gremlin.translation.GremlinSteps
 import org.opencypher.gremlin.translation.Tokens._
 import org.opencypher.gremlin.translation.context.WalkerContext
 import org.opencypher.gremlin.translation.exception.SyntaxException
-import org.opencypher.gremlin.translation.translator.TranslatorFeature.RETURN_GREMLIN_ELEMENTS
+import org.opencypher.gremlin.translation.translator.TranslatorFeature._
 import org.opencypher.gremlin.translation.walker.NodeUtils._
-import org.opencypher.gremlin.traversal.CustomFunction
+import org.opencypher.gremlin.traversal.{CustomFunction, CustomReducer, HyperLogLog, QuantileSketch}
 import org.opencypher.v9_0.ast._
 import org.opencypher.v9_0.expressions._
 import org.opencypher.v9_0.util.symbols._
@@ -55,7 +55,8 @@ private class ProjectionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
       select: Seq[String],
       all: Map[String, GremlinSteps[T, P]],
       pivots: Map[String, GremlinSteps[T, P]],
-      aggregations: Map[String, GremlinSteps[T, P]])
+      aggregations: Map[String, GremlinSteps[T, P]],
+      shared: Map[String, GremlinSteps[T, P]])
 
   sealed trait ReturnFunctionType
   case object Aggregation extends ReturnFunctionType
@@ -63,6 +64,7 @@ private class ProjectionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
   case object Pivot extends ReturnFunctionType
 
   private val p = context.dsl.predicates()
+  private val extensionAggregations = Set("approxcountdistinct", "percentilecont", "percentiledisc")
 
   def walk(
       distinct: Boolean,
@@ -108,34 +110,43 @@ private class ProjectionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
 
   private def returnSubTraversals(items: Seq[ReturnItem]): SubTraversals = {
     val select = getVariableNames(items)
+    val sharedExpressions = sharedSubexpressions(items)
+
+    val sharedCollector = mutable.LinkedHashMap.empty[String, GremlinSteps[T, P]]
+    for ((expression, name) <- sharedExpressions) {
+      sharedCollector.put(name, walkLocal(expression, None))
+    }
 
     val pivotCollector = mutable.LinkedHashMap.empty[String, GremlinSteps[T, P]]
     val aggregationCollector = mutable.LinkedHashMap.empty[String, GremlinSteps[T, P]]
     val allCollector = mutable.LinkedHashMap.empty[String, GremlinSteps[T, P]]
 
-    for (item <- items) {
-      val AliasedReturnItem(expression, Variable(alias)) = item
+    context.withPrecomputed(sharedExpressions) {
+      for (item <- items) {
+        val AliasedReturnItem(expression, Variable(alias)) = item
 
-      val (returnType, traversal) = subTraversal(alias, expression)
+        val (returnType, traversal) = subTraversal(alias, expression)
 
-      allCollector.put(alias, traversal)
+        allCollector.put(alias, traversal)
 
-      returnType match {
-        case Pivot       => pivotCollector.put(alias, traversal)
-        case Aggregation => aggregationCollector.put(alias, traversal)
-        case Expression  => aggregationCollector.put(alias, traversal)
+        returnType match {
+          case Pivot       => pivotCollector.put(alias, traversal)
+          case Aggregation => aggregationCollector.put(alias, traversal)
+          case Expression  => aggregationCollector.put(alias, traversal)
+        }
       }
     }
 
     val pivots = ListMap(pivotCollector.toSeq: _*)
     val aggregations = ListMap(aggregationCollector.toSeq: _*)
     val all = ListMap(allCollector.toSeq: _*)
+    val shared = ListMap(sharedCollector.toSeq: _*)
 
-    SubTraversals(select, all, pivots, aggregations)
+    SubTraversals(select, all, pivots, aggregations, shared)
   }
 
   private def applyProjection(subTraversals: SubTraversals): GremlinSteps[T, P] = {
-    val SubTraversals(select, all, pivots, aggregations) = subTraversals
+    val SubTraversals(select, all, pivots, aggregations, shared) = subTraversals
     lazy val selectMap = {
       if (select.isEmpty) {
         g
@@ -168,6 +179,15 @@ private class ProjectionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
       val pivotTraversal = __.project(pivots.keySet.toSeq: _*)
       for ((_, expression) <- pivots) pivotTraversal.by(expression)
 
+      if (shared.nonEmpty) {
+        val sharedTraversal = __.project(select ++ shared.keySet: _*)
+        for (name <- select) sharedTraversal.by(__.select(name))
+        for ((_, expression) <- shared) sharedTraversal.by(expression)
+
+        selectMap
+          .flatMap(sharedTraversal)
+      }
+
       selectMap
         .flatMap(pivotTraversal)
 
@@ -273,7 +293,7 @@ private class ProjectionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
   }
 
   private def subTraversal(alias: String, expression: Expression): (ReturnFunctionType, GremlinSteps[T, P]) = {
-    if (expression.containsAggregate) {
+    if (expression.containsAggregate || isExtensionAggregation(expression)) {
       aggregation(alias, expression)
     } else {
       (Pivot, walkLocal(expression, Some(alias)))
@@ -369,11 +389,15 @@ private class ProjectionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
           case "min" =>
             (Aggregation, traversal.fold().coalesce(__.min(local), __.constant(NULL)))
           case "percentilecont" =>
-            (Aggregation, aggregateWithArguments(args, alias).map(CustomFunction.cypherPercentileCont()))
+            (Aggregation, percentile(expression, args, alias, continuous = true))
           case "percentiledisc" =>
-            (Aggregation, aggregateWithArguments(args, alias).map(CustomFunction.cypherPercentileDisc()))
+            (Aggregation, percentile(expression, args, alias, continuous = false))
           case "sum" =>
             (Aggregation, traversal.fold().coalesce(__.sum(local), __.constant(NULL)))
+          case "approxcountdistinct" if isExtensionAggregation(expression) =>
+            val precision = approxCountDistinctPrecision(args)
+            val reducer = CustomReducer.cypherApproxCountDistinct(precision)
+            (Aggregation, traversal.fold(reducer).map(CustomFunction.cypherApproxCountDistinct()))
           case _ =>
             throw new SyntaxException(s"Unknown function '$fnName'")
         }
@@ -400,13 +424,182 @@ private class ProjectionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
     }
   }
 
-  private def aggregateWithArguments(args: Seq[Expression], alias: String): GremlinSteps[T, P] = {
+  /**
+    * Aggregations provided by extensions are not known to the front-end,
+    * so they are recognized here by their `gremlin` namespace.
+    * Namespaced percentile functions take an extra accuracy argument, which the front-end would reject otherwise.
+    */
+  private def isExtensionAggregation(expression: Expression): Boolean = expression match {
+    case FunctionInvocation(Namespace(List(namespace)), FunctionName(fnName), _, _) =>
+      namespace.toLowerCase == "gremlin" &&
+        extensionAggregations.contains(fnName.toLowerCase) &&
+        context.dsl.isEnabled(CYPHER_EXTENSIONS)
+    case _ =>
+      false
+  }
+
+  private def approxCountDistinctPrecision(args: Seq[Expression]): Int = {
+    def invalid = new SyntaxException(
+      s"Precision of approxCountDistinct must be an integer literal or parameter " +
+        s"between ${HyperLogLog.MIN_PRECISION} and ${HyperLogLog.MAX_PRECISION}")
+
+    args match {
+      case Seq(_) =>
+        HyperLogLog.DEFAULT_PRECISION
+      case Seq(_, precision @ (_: IntegerLiteral | _: Parameter)) =>
+        inlineExpressionValue(precision, context, classOf[AnyRef]) match {
+          case n: Number
+              if n.doubleValue() == n.longValue() &&
+                n.longValue() >= HyperLogLog.MIN_PRECISION && n.longValue() <= HyperLogLog.MAX_PRECISION =>
+            n.intValue()
+          case _ =>
+            throw invalid
+        }
+      case _ =>
+        throw invalid
+    }
+  }
+
+  /**
+    * `gremlin.percentileCont` and `gremlin.percentileDisc` are always approximate, with an optional accuracy argument.
+    * Approximate percentiles reduce values into a quantile sketch instead of collecting them.
+    */
+  private def percentile(
+      expression: Expression,
+      args: Seq[Expression],
+      alias: String,
+      continuous: Boolean): GremlinSteps[T, P] = {
+    val accuracy =
+      if (isExtensionAggregation(expression)) {
+        Some(percentileAccuracy(args))
+      } else if (context.dsl.isEnabled(APPROXIMATE_PERCENTILES)) {
+        Some(QuantileSketch.DEFAULT_ACCURACY)
+      } else {
+        None
+      }
+    accuracy match {
+      case Some(a) =>
+        val reducer = CustomReducer.cypherApproxPercentile(a)
+        val function =
+          if (continuous) CustomFunction.cypherApproxPercentileCont() else CustomFunction.cypherApproxPercentileDisc()
+        aggregateWithArguments(args.take(2), alias, _.fold(reducer)).map(function)
+      case None =>
+        val function = if (continuous) CustomFunction.cypherPercentileCont() else CustomFunction.cypherPercentileDisc()
+        aggregateWithArguments(args.take(2), alias, _.fold()).map(function)
+    }
+  }
+
+  private def percentileAccuracy(args: Seq[Expression]): Double = {
+    def invalid = new SyntaxException(
+      "Accuracy of percentileCont and percentileDisc must be a number literal or parameter between 0 and 1, exclusive")
+
+    args match {
+      case Seq(_, _) =>
+        QuantileSketch.DEFAULT_ACCURACY
+      case Seq(_, _, accuracy @ (_: NumberLiteral | _: Parameter)) =>
+        inlineExpressionValue(accuracy, context, classOf[AnyRef]) match {
+          case n: Number if n.doubleValue() > 0 && n.doubleValue() < 1 =>
+            n.doubleValue()
+          case _ =>
+            throw invalid
+        }
+      case _ =>
+        throw invalid
+    }
+  }
+
+  private def aggregateWithArguments(
+      args: Seq[Expression],
+      alias: String,
+      fold: GremlinSteps[T, P] => GremlinSteps[T, P]): GremlinSteps[T, P] = {
     val keys = args.map(_ => context.generateName())
-    val traversal = walkLocal(args.head, Some(alias)).fold().project(keys: _*).by(__.identity())
+    val traversal = fold(walkLocal(args.head, Some(alias))).project(keys: _*).by(__.identity())
     args.drop(1).map(walkLocal(_, Some(alias))).foreach(traversal.by)
     traversal.select(Column.values)
   }
 
+  /**
+    * Finds subexpressions that are evaluated more than once per row by projection items,
+    * so that they can be computed once and referenced by name.
+    * Subexpressions under lazily evaluated operators only count if they are also evaluated unconditionally,
+    * and subexpressions of nested scopes (list comprehensions, patterns, etc.) are left as they are.
+    */
+  private def sharedSubexpressions(items: Seq[ReturnItem]): ListMap[Expression, String] = {
+    val expressions = items.collect { case AliasedReturnItem(expression, _) => expression }
+    val pivotsOnly = expressions.forall { expression =>
+      !expression.containsAggregate && !isExtensionAggregation(expression) && !isWherePrecondition(expression)
+    }
+    if (!context.dsl.isEnabled(COMMON_SUBEXPRESSIONS) || !pivotsOnly) {
+      return ListMap.empty
+    }
+
+    val scoped = expressions
+      .flatMap(_.findByAllClass[Expression])
+      .filter(isScope)
+      .flatMap(_.findByAllClass[Expression])
+      .toSet
+
+    def occurrences(expression: Expression, eager: Boolean, leaf: Expression => Boolean): Seq[(Expression, Boolean)] = {
+      if (isScope(expression)) {
+        Nil
+      } else if (leaf(expression)) {
+        Seq((expression, eager))
+      } else {
+        val eagerArguments = eager && !isConditional(expression)
+        (expression, eager) +: expression.arguments.flatMap(occurrences(_, eagerArguments, leaf))
+      }
+    }
+
+    def isCandidate(expression: Expression): Boolean = {
+      val shareable = expression match {
+        case _: Property | _: ContainerIndex | _: Add | _: Subtract | _: Multiply | _: Divide | _: Modulo | _: Pow |
+            _: UnaryMinus =>
+          true
+        case FunctionInvocation(Namespace(Nil), _, false, _) =>
+          true
+        case _ =>
+          false
+      }
+      shareable && isDeterministic(expression) && expression.dependencies.nonEmpty && !scoped.contains(expression)
+    }
+
+    val all = expressions.flatMap(occurrences(_, eager = true, _ => false))
+    val evaluated = all.collect { case (expression, true) => expression }.toSet
+    val candidates = all
+      .map(_._1)
+      .distinct
+      .filter(expression => evaluated.contains(expression) && isCandidate(expression))
+
+    val chosen = mutable.Set.empty[Expression]
+    for (candidate <- candidates.sortBy(-_.findByAllClass[Expression].size)) {
+      val uses = expressions
+        .flatMap(occurrences(_, eager = true, chosen.contains))
+        .count(_._1 == candidate)
+      if (uses > 1) {
+        chosen += candidate
+      }
+    }
+
+    ListMap(candidates.filter(chosen.contains).map(_ -> context.generateName()): _*)
+  }
+
+  private def isScope(expression: Expression): Boolean = expression match {
+    case _: ScopeExpression | _: FilteringExpression | _: IterablePredicateExpression | _: ReduceExpression |
+        _: PatternExpression | _: PatternComprehension | _: ShortestPathExpression | _: MapProjection =>
+      true
+    case _ =>
+      false
+  }
+
+  private def isConditional(expression: Expression): Boolean = expression match {
+    case _: CaseExpression | _: And | _: Ands | _: Or | _: Ors =>
+      true
+    case FunctionInvocation(_, FunctionName(fnName), _, _) =>
+      fnName.toLowerCase == "coalesce"
+    case _ =>
+      false
+  }
+
   private def walkLocal(expression: Expression, maybeAlias: Option[String]): GremlinSteps[T, P] = {
     ExpressionWalker.walkLocal(context, g, expression, maybeAlias)
   }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.walker
+
+import org.opencypher.gremlin.translation.walker.NodeUtils.isDeterministic
+import org.opencypher.v9_0.expressions._
+import org.opencypher.v9_0.util.symbols.{CypherType, ListType, PathType}
+
+import scala.collection.mutable
+
+/**
+  * Compiles self-contained scalar expression trees into programs
+  * for the `cypherScalar` custom function.
+  *
+  * Operators and functions supported by the interpreter become program nodes,
+  * any other sub-expression becomes an operand (`$n`) that is evaluated by a regular traversal.
+  * Repeated deterministic operands are evaluated once.
+  */
+private[walker] object ScalarExpressionCompiler {
+  private val functions = Map(
+    "abs" -> "abs",
+    "sqrt" -> "sqrt",
+    "coalesce" -> "coalesce",
+    "size" -> "size",
+    "tolower" -> "toLower",
+    "toupper" -> "toUpper",
+    "trim" -> "trim",
+    "tostring" -> "toString",
+    "toboolean" -> "toBoolean",
+    "tointeger" -> "toInteger",
+    "tofloat" -> "toFloat"
+  )
+
+  /**
+    * @param isOperand sub-expressions that have to be operands even if they are compilable
+    * @return program and its operands, or `None` if the expression is not a compilable operator
+    */
+  def compile(
+      expression: Expression,
+      typeOf: Expression => CypherType,
+      isOperand: Expression => Boolean = _ => false): Option[(String, Seq[Expression])] = {
+    if (operator(expression, typeOf).isEmpty) {
+      return None
+    }
+
+    val operands = mutable.ArrayBuffer[Expression]()
+    val indices = mutable.HashMap[Expression, Int]()
+    def operand(expression: Expression): Int = {
+      operands += expression
+      operands.size - 1
+    }
+    def write(expression: Expression): String = {
+      val maybeOperator = if (isOperand(expression)) None else operator(expression, typeOf)
+      maybeOperator match {
+        case Some((name, args)) =>
+          args.map(write).mkString(name + "(", ",", ")")
+        case None if isDeterministic(expression) =>
+          "$" + indices.getOrElseUpdate(expression, operand(expression))
+        case None =>
+          "$" + operand(expression)
+      }
+    }
+    val program = write(expression)
+
+    if (operands.exists(_.isInstanceOf[PatternExpression])) {
+      None
+    } else {
+      Some((program, operands.toList))
+    }
+  }
+
+  private def operator(expression: Expression, typeOf: Expression => CypherType): Option[(String, Seq[Expression])] = {
+    expression match {
+      case Equals(lhs, rhs)             => Some(("eq", Seq(lhs, rhs)))
+      case Not(Equals(lhs, rhs))        => Some(("neq", Seq(lhs, rhs)))
+      case LessThan(lhs, rhs)           => Some(("lt", Seq(lhs, rhs)))
+      case LessThanOrEqual(lhs, rhs)    => Some(("lte", Seq(lhs, rhs)))
+      case GreaterThan(lhs, rhs)        => Some(("gt", Seq(lhs, rhs)))
+      case GreaterThanOrEqual(lhs, rhs) => Some(("gte", Seq(lhs, rhs)))
+      case StartsWith(lhs, rhs)         => Some(("startsWith", Seq(lhs, rhs)))
+      case EndsWith(lhs, rhs)           => Some(("endsWith", Seq(lhs, rhs)))
+      case Contains(lhs, rhs)           => Some(("contains", Seq(lhs, rhs)))
+      case IsNull(expr)                 => Some(("isNull", Seq(expr)))
+      case IsNotNull(expr)              => Some(("isNotNull", Seq(expr)))
+      case Not(expr)                    => Some(("not", Seq(expr)))
+      case Ands(ands)                   => Some(("and", ands.toSeq))
+      case Ors(ors)                     => Some(("or", ors.toSeq))
+      case Xor(lhs, rhs)                => Some(("xor", Seq(lhs, rhs)))
+      case Add(lhs, rhs)                => Some(("add", Seq(lhs, rhs)))
+      case Subtract(lhs, rhs)           => Some(("sub", Seq(lhs, rhs)))
+      case Multiply(lhs, rhs)           => Some(("mul", Seq(lhs, rhs)))
+      case Divide(lhs, rhs)             => Some(("div", Seq(lhs, rhs)))
+      case Modulo(lhs, rhs)             => Some(("mod", Seq(lhs, rhs)))
+      case Pow(lhs, rhs)                => Some(("pow", Seq(lhs, rhs)))
+      case FunctionInvocation(_, FunctionName(fnName), false, args) if args.nonEmpty =>
+        (functions.get(fnName.toLowerCase), typeOf(args.head)) match {
+          case (Some("size"), ListType(_: PathType)) => None
+          case (Some(name), _)                       => Some((name, args))
+          case _                                     => None
+        }
+      case _ => None
+    }
+  }
+}
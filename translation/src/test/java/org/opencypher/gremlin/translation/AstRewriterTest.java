@@ -18,6 +18,9 @@ package org.opencypher.gremlin.translation;
 import static org.opencypher.gremlin.translation.CypherAst.parse;
 import static org.opencypher.gremlin.translation.ir.helpers.CypherAstAssertions.assertThat;
 
+import java.util.HashMap;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
 import org.junit.Test;
 
 public class AstRewriterTest {
@@ -67,6 +70,46 @@ public class AstRewriterTest {
         );
     }
 
+    @Test
+    public void constantFolding() throws Exception {
+        assertThat(parse(
+            "MATCH (n) WHERE n.ts > 1000 - 10 * 60 AND n.name STARTS WITH toLower('ABC') " +
+                "RETURN 60 * 60 * 24 AS day, 'a' + 1 AS s, 2 ^ 3 AS p, 1 + null AS n"
+        )).normalizedTo(
+            "MATCH (n) WHERE n.ts > 400 AND n.name STARTS WITH 'abc' " +
+                "RETURN 86400 AS day, 'a1' AS s, 8.0 AS p, null AS n"
+        );
+    }
+
+    @Test
+    public void constantFoldingKeepsParameters() throws Exception {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("now", 7200L);
+        parameters.put("prefix", "x");
+        assertThat(parse(
+            "MATCH (n) WHERE n.ts > $now - 3600 AND n.name IN [$prefix + 'a', 'b'] RETURN n",
+            parameters
+        )).normalizedTo(
+            "MATCH (n) WHERE n.ts > $now - 3600 AND n.name IN [$prefix + 'a', 'b'] RETURN n"
+        );
+    }
+
+    @Test
+    public void constantFoldingLeavesErrorsToRuntime() throws Exception {
+        String ast = parse("RETURN 1 / 0 AS a, 9223372036854775807 + 1 AS b").toString();
+
+        Assertions.assertThat(ast).contains("Divide", "Add");
+    }
+
+    @Test
+    public void constantFoldingSimplifiesPredicates() throws Exception {
+        assertThat(parse(
+            "MATCH (n) WHERE 1 <> 2 AND n.name = 'marko' RETURN n"
+        )).normalizedTo(
+            "MATCH (n) WHERE n.name = 'marko' RETURN n"
+        );
+    }
+
     @Test
     public void matchSingleName() throws Exception {
         assertThat(parse(
@@ -19,6 +19,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -202,4 +203,73 @@ public class CypherAstTest {
         assertThatThrownBy(() -> ast.buildTranslation(translator))
             .hasMessageContaining("cypherToString");
     }
+
+    @Test
+    public void extractLiterals() {
+        String query = "MATCH (n:person {name: %s}) WHERE n.age > %s " +
+            "UNWIND %s AS x " +
+            "RETURN n.name, x, $p AS p";
+        CypherAst first = CypherAst.parseExtractingLiterals(
+            String.format(query, "'marko'", "20", "[1, 2]"), singletonMap("p", 1L));
+        CypherAst second = CypherAst.parseExtractingLiterals(
+            String.format(query, "'vadas'", "30", "[3, 4, 5]"), singletonMap("p", 2L));
+
+        String firstScript = first.buildTranslation(Translator.builder().gremlinGroovy().build());
+        String secondScript = second.buildTranslation(Translator.builder().gremlinGroovy().build());
+
+        assertThat(firstScript).isEqualTo(secondScript);
+        assertThat(firstScript).doesNotContain("marko");
+        assertThat(first.getExtractedParameters())
+            .containsValues("marko", 20L, asList(1L, 2L))
+            .doesNotContainKey("p");
+        assertThat(second.getExtractedParameters())
+            .containsValues("vadas", 30L, asList(3L, 4L, 5L));
+        assertThat(first.getExtractedParameters().keySet())
+            .isEqualTo(second.getExtractedParameters().keySet());
+    }
+
+    @Test
+    public void parametersAreNotFoldedIntoBindings() {
+        Translator<String, GroovyPredicate> translator = Translator.builder().gremlinGroovy().build();
+
+        CypherAst ast = CypherAst.parse("MATCH (n) WHERE n.ts > $now - 3600 RETURN n", singletonMap("now", 7200L));
+
+        assertThat(ast.buildReusableTranslation(translator)).isPresent();
+        assertThat(ast.buildTranslation(translator))
+            .contains("now")
+            .doesNotContain("7200");
+    }
+
+    @Test
+    public void extractedLiteralsAreNotFolded() {
+        Translator<String, GroovyPredicate> translator = Translator.builder().gremlinGroovy().build();
+
+        CypherAst first = CypherAst.parseExtractingLiterals("RETURN toLower('ABC') AS l", emptyMap());
+        CypherAst second = CypherAst.parseExtractingLiterals("RETURN toLower('XYZ') AS l", emptyMap());
+
+        assertThat(first.buildTranslation(translator))
+            .isEqualTo(second.buildTranslation(translator))
+            .doesNotContain("abc");
+    }
+
+    @Test
+    public void inlinedParametersAreFolded() {
+        Translator<String, GroovyPredicate> translator = Translator.builder()
+            .gremlinGroovy()
+            .inlineParameters()
+            .build();
+
+        CypherAst ast = CypherAst.parse("MATCH (n) WHERE n.ts > $now - 3600 RETURN n", singletonMap("now", 7200L));
+
+        assertThat(ast.buildTranslation(translator)).contains("gt(3600)");
+    }
+
+    @Test
+    public void updatingQueries() {
+        assertThat(CypherAst.parse("MATCH (n) RETURN n").isUpdating()).isFalse();
+        assertThat(CypherAst.parse("CREATE (n) RETURN n").isUpdating()).isTrue();
+        assertThat(CypherAst.parse("MATCH (n) SET n.p = 1").isUpdating()).isTrue();
+        assertThat(CypherAst.parse("MATCH (n) DETACH DELETE n").isUpdating()).isTrue();
+        assertThat(CypherAst.parse("MERGE (n:N) RETURN n").isUpdating()).isTrue();
+    }
 }
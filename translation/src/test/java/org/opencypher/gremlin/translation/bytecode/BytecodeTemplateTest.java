@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.bytecode;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.opencypher.gremlin.translation.Tokens.NULL;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.junit.Test;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.translator.Translator;
+
+public class BytecodeTemplateTest {
+
+    @Test
+    public void bind() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("a", 1L);
+        parameters.put("b", 2L);
+        BytecodeTemplate template = BytecodeTemplate.of(translate(
+            "UNWIND [1, 2] AS x " +
+                "RETURN x, $a AS a, [y IN [x] | y + $b] AS b",
+            parameters
+        ));
+
+        Bytecode bytecode = template.bind(singletonMap("a", 3L));
+
+        assertThat(bytecode.getBindings())
+            .containsOnly(entry("a", 3L), entry("b", NULL));
+        assertThat(template.bind(parameters).getBindings())
+            .containsOnly(entry("a", 1L), entry("b", 2L));
+    }
+
+    @Test
+    public void noBindings() {
+        Bytecode translation = translate("MATCH (n) RETURN n", emptyMap());
+
+        Bytecode bytecode = BytecodeTemplate.of(translation).bind(singletonMap("a", 1L));
+
+        assertThat(bytecode).isSameAs(translation);
+    }
+
+    private static Bytecode translate(String cypher, Map<String, Object> parameters) {
+        return CypherAst.parse(cypher, parameters)
+            .buildTranslation(Translator.builder().bytecode().build());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.ir.rewrite
+
+import org.apache.tinkerpop.gremlin.structure.Column
+import org.junit.Test
+import org.opencypher.gremlin.translation.CypherAst.parse
+import org.opencypher.gremlin.translation.Tokens._
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssert._
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssertions.assertThat
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor
+
+class CountPushdownTest {
+
+  val flavor = new TranslatorFlavor(
+    rewriters = Seq(
+      InlineFlatMapTraversal,
+      SimplifyRenamedAliases,
+      RemoveMultipleAliases,
+      GroupStepFilters,
+      RemoveIntermediateProjection,
+      SimplifySingleProjections,
+      RemoveUselessNullChecks,
+      RemoveIdentityReselect,
+      RemoveUnusedAliases,
+      SimplifyEdgeTraversal,
+      RemoveUnusedAliases,
+      RemoveUselessSteps
+    ),
+    postConditions = Nil
+  )
+
+  @Test
+  def countByLabel(): Unit = {
+    assertThat(parse("""
+        |MATCH (n:Person)
+        |RETURN count(n)
+      """.stripMargin))
+      .withFlavor(flavor)
+      .rewritingWith(CountPushdown)
+      .removes(__.V().hasLabel("Person").is(P.neq(NULL)).count())
+      .adds(__.V().hasLabel("Person").count())
+  }
+
+  @Test
+  def degreeCount(): Unit = {
+    assertThat(parse("""
+        |MATCH (n)-[:R]->()
+        |RETURN n, count(*)
+      """.stripMargin))
+      .withFlavor(flavor)
+      .rewritingWith(CountPushdown)
+      .removes(__.outE("R").inV().select("n").group())
+      .adds(
+        __.where(__.outE("R"))
+          .project("n", "count(*)")
+          .by(__.identity())
+          .by(__.outE("R").count()))
+  }
+
+  @Test
+  def incomingDegreeCount(): Unit = {
+    assertThat(parse("""
+        |MATCH (n:Person)<-[:R]-()
+        |RETURN n, count(n) AS c
+      """.stripMargin))
+      .withFlavor(flavor)
+      .rewritingWith(CountPushdown)
+      .removes(__.inE("R").outV().select("n").group())
+      .adds(
+        __.where(__.inE("R"))
+          .project("n", "c")
+          .by(__.identity())
+          .by(__.inE("R").count()))
+  }
+
+  @Test
+  def countOfOtherNode(): Unit = {
+    assertThat(parse("""
+        |MATCH (n)-[:R]->(m)
+        |RETURN n, count(m)
+      """.stripMargin))
+      .withFlavor(flavor)
+      .rewritingWith(CountPushdown)
+      .keeps(__.group().by(__.identity()))
+      .keeps(__.unfold().select(Column.values))
+  }
+}
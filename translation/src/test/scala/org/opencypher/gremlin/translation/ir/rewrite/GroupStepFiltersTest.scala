@@ -67,7 +67,7 @@ class GroupStepFiltersTest {
   def singleWhere(): Unit = {
     assertThat(parse("""
         |MATCH (n)
-        |WHERE n.p = 'n' AND 1 <> 2
+        |WHERE n.p = 'n' AND n.q IS NULL
         |RETURN n
       """.stripMargin))
       .withFlavor(flavor)
@@ -76,11 +76,11 @@ class GroupStepFiltersTest {
         __.where(
           __.and(
             __.select("n").values("p").is(P.isEq("n")),
-            __.constant(1).is(P.neq(2))
+            __.select("n").hasNot("q")
           )))
       .adds(
         __.has("p", P.isEq("n"))
-          .where(__.constant(1).is(P.neq(2)))
+          .where(__.select("n").hasNot("q"))
       )
   }
 
@@ -268,6 +268,19 @@ class TranslatorBuilderTest {
     }
   }
 
+  @Test
+  def factory(): Unit = {
+    val factory = TranslatorFactory.gremlinGroovy("gremlin+cfog_server_extensions")
+    val first = factory.get()
+    val second = factory.get()
+
+    assertThat(first).isNotSameAs(second)
+    assertThat(first.flavor()).isSameAs(second.flavor())
+    assertThat(first.isEnabled(TranslatorFeature.CYPHER_EXTENSIONS)).isTrue
+    assertThat(parse("MATCH (n) RETURN n.name").buildTranslation(first))
+      .isEqualTo(parse("MATCH (n) RETURN n.name").buildTranslation(second))
+  }
+
   private def allFlavors =
     classOf[TranslatorFlavor].getDeclaredMethods
       .filter(_.getReturnType == classOf[TranslatorFlavor])